@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures matching a word in a formatted person, with {@code StringUtil}, a {@code WordMatcher} and the regex split
+ * that {@code StringUtil} used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilBenchmark {
+
+    private final String sentence = "Alex Yeoh ; Phone: 87438807 ; Email: alexyeoh@example.com ; Address: Blk 30 "
+            + "Geylang Street 29, #06-40 ; School: NUS ; Degree: Computer Science ; Tags: [DataScience][Python]";
+    private final WordMatcher matcher = new WordMatcher(List.of("science"));
+
+    @Benchmark
+    public boolean containsWordIgnoreCase() {
+        return StringUtil.containsWordIgnoreCase(sentence, "science");
+    }
+
+    @Benchmark
+    public boolean wordMatcher() {
+        return matcher.matchesAnyWordIn(sentence);
+    }
+
+    @Benchmark
+    public boolean regexSplit() {
+        return regexSplitContainsWordIgnoreCase(sentence, "science");
+    }
+
+    /**
+     * The word match of {@code StringUtil#containsWordIgnoreCase} before it stopped using regexes.
+     */
+    public static boolean regexSplitContainsWordIgnoreCase(String sentence, String word) {
+        String preppedWord = word.trim();
+        if (preppedWord.isEmpty() || preppedWord.split("\\s+").length != 1) {
+            throw new IllegalArgumentException("Word parameter should be a single word");
+        }
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
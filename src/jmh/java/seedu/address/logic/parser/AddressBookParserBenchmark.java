@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing typical user input. Parsing does not depend on the size of the data, so this benchmark is not
+ * parameterised over it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> INPUTS = Map.of(
+            "add", "add n/James Ho s/NUS d/Physics p/22224444 e/jamesho@example.com a/123, Clementi Rd, 1234665 "
+                    + "t/friend t/colleague",
+            "addjob", "addjob jt/Software Engineering jr/3 js/Python React em/Intern",
+            "edit", "edit 2 n/James Lee e/jameslee@example.com",
+            "find", "find James Jake",
+            "findjob", "findjob Software js/Python em/Intern");
+
+    @Param({"add", "addjob", "edit", "find", "findjob"})
+    private String command;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = INPUTS.get(command);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
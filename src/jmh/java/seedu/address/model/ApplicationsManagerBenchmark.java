@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures looking up the applications of a person or job, as the person and job list cells do, through the indexes
+ * of {@code ApplicationsManager} and through the scan of all applications that it used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApplicationsManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ApplicationsManager applicationsManager;
+    private Person person;
+    private Job job;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(size).withPersonCount(size);
+        AddressBook addressBook = generator.generateAddressBook();
+        applicationsManager = generator.generateApplicationsManager(addressBook);
+        // Copies, so that the lookups cannot short-circuit on identity
+        Person lastPerson = addressBook.getPersonList().get(size - 1);
+        person = new Person(lastPerson.getId(), lastPerson.getName(), lastPerson.getPhone(), lastPerson.getEmail(),
+                lastPerson.getAddress(), lastPerson.getSchool(), lastPerson.getDegree(), lastPerson.getTags());
+        Job lastJob = addressBook.getJobList().get(addressBook.getJobList().size() - 1);
+        job = new Job(lastJob.getId(), lastJob.getJobTitle(), lastJob.getJobRounds(), lastJob.getJobSkills(),
+                lastJob.getJobType());
+    }
+
+    @Benchmark
+    public List<Application> getApplicationsByPerson() {
+        return applicationsManager.getApplicationsByPerson(person);
+    }
+
+    @Benchmark
+    public List<Application> getApplicationsByJob() {
+        return applicationsManager.getApplicationsByJob(job);
+    }
+
+    /**
+     * Finds the applications of the person by scanning all applications.
+     */
+    @Benchmark
+    public List<Application> scanApplicationsByPerson() {
+        return applicationsManager.getApplicationList().stream()
+                .filter(application -> application.getApplicant().equals(person))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the applications of the job by scanning all applications.
+     */
+    @Benchmark
+    public List<Application> scanApplicationsByJob() {
+        return applicationsManager.getApplicationList().stream()
+                .filter(application -> application.getJob().equals(job))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.commons.util.StringUtilBenchmark;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures finding the persons in an address book that match the keywords of a {@code find}: by testing every
+ * person with {@code NameContainsKeywordsPredicate} or with the regex-splitting word match that {@code StringUtil}
+ * used before, and by looking the matching persons up in the keyword index, as {@code find} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersonSearchBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("alex", "NTU", "Python");
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        addressBook = new SyntheticDataGenerator(size).withPersonCount(size).generateAddressBook();
+        persons = addressBook.getPersonList();
+        predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+    }
+
+    /**
+     * Tests every person with {@code NameContainsKeywordsPredicate}.
+     */
+    @Benchmark
+    public void predicate(Blackhole blackhole) {
+        for (Person person : persons) {
+            blackhole.consume(predicate.test(person));
+        }
+    }
+
+    /**
+     * Finds the matching persons in the keyword index of the address book, without looking at the other persons.
+     */
+    @Benchmark
+    public Set<Person> keywordIndex() {
+        return addressBook.findPersonsMatchingAnyKeyword(KEYWORDS);
+    }
+
+    /**
+     * Tests every person the way {@code NameContainsKeywordsPredicate} did before.
+     */
+    @Benchmark
+    public void regexSplitPredicate(Blackhole blackhole) {
+        for (Person person : persons) {
+            // As before, the person is formatted again for every keyword
+            blackhole.consume(KEYWORDS.stream().anyMatch(keyword ->
+                    StringUtilBenchmark.regexSplitContainsWordIgnoreCase(Messages.format(person), keyword)));
+        }
+    }
+}
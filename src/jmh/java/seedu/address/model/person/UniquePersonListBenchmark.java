@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures filling a {@code UniquePersonList}, including its duplicate checks and keyword index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(new SyntheticDataGenerator(size).withPersonCount(size).generateAddressBook()
+                .getPersonList());
+    }
+
+    /**
+     * Adds all persons to an empty list.
+     */
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        persons.forEach(uniquePersonList::add);
+        return uniquePersonList;
+    }
+}
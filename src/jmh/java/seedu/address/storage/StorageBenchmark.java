@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures saving and loading address books as JSON and Smile files.
+ * Also compares loading JSON one element at a time with binding the whole file first, and atomic writes with plain
+ * writes of the same bytes. Run with {@code -prof gc} to compare the memory used by the two ways of loading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private byte[] jsonBytes;
+    private JsonAddressBookStorage jsonStorage;
+    private SmileAddressBookStorage smileStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        addressBook = new SyntheticDataGenerator(size).withPersonCount(size).generateAddressBook();
+        jsonBytes = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                .getBytes(StandardCharsets.UTF_8);
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        smileStorage = new SmileAddressBookStorage(folder.resolve("addressbook.sml"));
+        jsonStorage.saveAddressBook(addressBook);
+        smileStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    /**
+     * Loads the JSON file by binding all of it to a {@code JsonSerializableAddressBook} first.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook loadJsonWholeFile() throws DataLoadingException, IllegalValueException {
+        return JsonUtil.readJsonFile(jsonStorage.getAddressBookFilePath(), JsonSerializableAddressBook.class).get()
+                .toModelType();
+    }
+
+    @Benchmark
+    public void saveSmile() throws IOException {
+        smileStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadSmile() throws DataLoadingException {
+        return smileStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void writeJsonBytesAtomically() throws IOException {
+        FileUtil.writeToFileAtomically(folder.resolve("atomic.json"), jsonBytes, true);
+    }
+
+    @Benchmark
+    public void writeJsonBytes() throws IOException {
+        Files.write(folder.resolve("plain.json"), jsonBytes);
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Journal;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Loads the config, user prefs and data that the application starts with.
+ * Used by both {@link MainApp} and {@link BatchMain}, so that neither needs the other to start up.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {
+    } // prevents instantiation
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address
+     * book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if
+     * {@code storage}'s address book is not found. If errors occur when reading
+     * {@code storage}'s address book, it is restored from its backup, or an empty
+     * address book is used if that cannot be read either.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialAddressBookData;
+
+        Optional<ReadOnlyApplicationsManager> applicationsManagerOptional;
+        ReadOnlyApplicationsManager initialApplicationsManagerData;
+
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (addressBookOptional.isEmpty()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialAddressBookData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            initialAddressBookData = recoverAddressBook(storage).orElseGet(() -> {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook.");
+                return new AddressBook();
+            });
+        }
+
+        try {
+            applicationsManagerOptional = storage.readApplicationsManager(initialAddressBookData);
+            if (applicationsManagerOptional.isEmpty()) {
+                logger.info("Creating a new data file " + storage.getApplicationsManagerFilePath()
+                        + " populated with a sample ApplicationsManager.");
+            }
+            initialApplicationsManagerData = applicationsManagerOptional.isPresent()
+                    ? applicationsManagerOptional.get()
+                    : SampleDataUtil.getSampleApplicationsManager(initialAddressBookData);
+        } catch (DataLoadingException e) {
+            Optional<ReadOnlyApplicationsManager> recovered = recoverApplicationsManager(storage,
+                    initialAddressBookData);
+            if (recovered.isEmpty()) {
+                logger.warning("Data file at " + storage.getApplicationsManagerFilePath() + " could not be loaded."
+                        + " Will be starting with an empty ApplicationsManager.");
+            }
+            initialApplicationsManagerData = recovered.isPresent()
+                    ? recovered.get()
+                    : SampleDataUtil.getSampleApplicationsManager(initialAddressBookData);
+        }
+
+        return new ModelManager(initialAddressBookData, initialApplicationsManagerData, userPrefs);
+    }
+
+    /**
+     * Reads the backup of {@code storage}'s address book file, and restores the file from it if it can be read.
+     * Returns {@code Optional.empty()} if there is no backup, or it cannot be read either, in which case the file is
+     * left as it is.
+     */
+    private static Optional<ReadOnlyAddressBook> recoverAddressBook(Storage storage) {
+        Path filePath = storage.getAddressBookFilePath();
+        Optional<ReadOnlyAddressBook> backup;
+        try {
+            backup = storage.readAddressBook(FileUtil.getBackupPath(filePath));
+        } catch (DataLoadingException e) {
+            logger.warning("Backup of data file at " + filePath + " could not be loaded: " + e.getMessage());
+            return Optional.empty();
+        }
+        backup.ifPresent(unused -> restoreBackup(filePath));
+        return backup;
+    }
+
+    /**
+     * Reads the backup of {@code storage}'s applications manager file, and restores the file from it if it can be
+     * read. Returns {@code Optional.empty()} if there is no backup, or it cannot be read either, in which case the file
+     * is left as it is.
+     */
+    private static Optional<ReadOnlyApplicationsManager> recoverApplicationsManager(Storage storage,
+            ReadOnlyAddressBook addressBook) {
+        Path filePath = storage.getApplicationsManagerFilePath();
+        Optional<ReadOnlyApplicationsManager> backup;
+        try {
+            backup = storage.readApplicationsManager(FileUtil.getBackupPath(filePath), addressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Backup of data file at " + filePath + " could not be loaded: " + e.getMessage());
+            return Optional.empty();
+        }
+        backup.ifPresent(unused -> restoreBackup(filePath));
+        return backup;
+    }
+
+    /**
+     * Replaces the data file at {@code filePath} with its backup, which has been read successfully.
+     * The data read from the backup is used even if the file cannot be replaced, as the file is written again once
+     * the data changes.
+     * The backup holds the data as of the last time the whole file was written, so any changes journaled after it
+     * are lost, as the journal only applies to the file it was written for.
+     */
+    private static void restoreBackup(Path filePath) {
+        try {
+            FileUtil.restoreBackup(filePath);
+            logger.warning("Data file at " + filePath + " could not be loaded. Restored it from its backup.");
+            Path journalPath = new Journal(filePath).getJournalPath();
+            if (FileUtil.isFileExists(journalPath)) {
+                logger.warning("Recent changes in " + journalPath + ", made after the backup was written, are lost.");
+            }
+        } catch (IOException e) {
+            logger.warning("Data file at " + filePath + " could not be restored from its backup: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (configOptional.isEmpty()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        // Update config file in case it was missing to begin with or there are
+        // new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs
+     * file path, or a new {@code UserPrefs} with default configuration if errors
+     * occur when reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (prefsOptional.isEmpty()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning(
+                    "Preference file at " + prefsFilePath + " could not be loaded." + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        // Update prefs file in case it was missing to begin with or there are
+        // new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
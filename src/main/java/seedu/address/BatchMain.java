@@ -0,0 +1,127 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands on the data of the application without starting the GUI, for bulk changes and for
+ * measuring how fast commands run.
+ *
+ * Run with {@code java -jar addressbook.jar --batch --script commands.txt}, or {@code gradlew run --args="--batch"}
+ * to read the commands from standard input. The data, config and preferences are those the application uses.
+ * Only warnings are logged, as logging every command would take longer than running it.
+ */
+public class BatchMain {
+
+    public static final String MESSAGE_USAGE = "Usage: --batch [--script FILE] [--save-every COUNT] [--config FILE]";
+
+    private static final Set<String> OPTIONS = Set.of("--script", "--save-every", "--config");
+
+    /**
+     * Runs the script described by {@code args}, and exits with status 1 if any of its commands failed.
+     */
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseOptions(args);
+            int commandsPerSave = parseCommandsPerSave(options);
+
+            Config config = AppInitializer.initConfig(
+                    options.containsKey("--config") ? Paths.get(options.get("--config")) : null);
+            config.setLogLevel(Level.WARNING);
+            LogsCenter.init(config);
+
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+            StorageManager storage = new StorageManager(userPrefs.getDataFileFormat(),
+                    userPrefs.getAddressBookFilePath(), userPrefs.getApplicationsManagerFilePath(), userPrefsStorage);
+            Model model = AppInitializer.initModelManager(storage, userPrefs);
+
+            CommandMetrics commandMetrics = new CommandMetrics(config.isCommandMetricsEnabled());
+            LogicManager logic = new LogicManager(model, storage, commandMetrics);
+            logic.setCommandsPerSave(commandsPerSave);
+
+            BatchRunner.Summary summary;
+            try (BufferedReader script = openScript(options.get("--script"))) {
+                summary = new BatchRunner(logic).run(script, System.err::println);
+            }
+            storage.saveUserPrefs(model.getUserPrefs());
+
+            System.out.println(summary);
+            if (commandMetrics.isEnabled()) {
+                System.out.println(commandMetrics.getSummary());
+            }
+            if (summary.failureCount() > 0) {
+                System.exit(1);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Could not run the script: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the values of the options in {@code args}, keyed by option.
+     *
+     * @throws IllegalArgumentException if an option is unknown or has no value.
+     */
+    static Map<String, String> parseOptions(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!OPTIONS.contains(args[i])) {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for option: " + args[i]);
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * Returns the number of commands to run between saves, which is 0 to save only at the end of the script.
+     *
+     * @throws IllegalArgumentException if the number is not a non-negative integer.
+     */
+    static int parseCommandsPerSave(Map<String, String> options) {
+        String value = options.getOrDefault("--save-every", "0");
+        try {
+            int commandsPerSave = Integer.parseInt(value);
+            if (commandsPerSave >= 0) {
+                return commandsPerSave;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new IllegalArgumentException("Not a valid number of commands for option --save-every: " + value);
+    }
+
+    private static BufferedReader openScript(String scriptPath) throws IOException {
+        return scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8);
+    }
+}
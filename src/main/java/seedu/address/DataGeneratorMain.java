@@ -0,0 +1,117 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonApplicationsManagerStorage;
+
+/**
+ * Writes data files filled by a {@link SyntheticDataGenerator}, for trying the application out with large amounts of
+ * data.
+ *
+ * Run with {@code gradlew generateData --args="--persons 100000"}. The files are written to the data folder, where
+ * the application reads them from by default, unless another folder is given with {@code --output}.
+ */
+public class DataGeneratorMain {
+
+    public static final String MESSAGE_USAGE = "Usage: DataGeneratorMain [--persons COUNT] [--jobs COUNT]"
+            + " [--applications-per-person COUNT] [--max-rounds COUNT] [--seed SEED] [--output FOLDER]";
+
+    private static final Set<String> OPTIONS = Set.of("--persons", "--jobs", "--applications-per-person",
+            "--max-rounds", "--seed", "--output");
+    private static final long DEFAULT_SEED = 0;
+
+    /**
+     * Generates the data described by {@code args} and writes it to addressbook.json and applicationsmanager.json.
+     */
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseOptions(args);
+            SyntheticDataGenerator generator = createGenerator(options);
+            Path folder = Paths.get(options.getOrDefault("--output", "data"));
+
+            AddressBook addressBook = generator.generateAddressBook();
+            ApplicationsManager applicationsManager = generator.generateApplicationsManager(addressBook);
+            new JsonAddressBookStorage(folder.resolve("addressbook.json")).saveAddressBook(addressBook);
+            new JsonApplicationsManagerStorage(folder.resolve("applicationsmanager.json"))
+                    .saveApplicationsManager(applicationsManager);
+
+            System.out.println(String.format("Wrote %d persons, %d jobs and %d applications to %s",
+                    addressBook.getPersonList().size(), addressBook.getJobList().size(),
+                    applicationsManager.getApplicationList().size(), folder.toAbsolutePath()));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Could not write the data files: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the values of the options in {@code args}, keyed by option.
+     *
+     * @throws IllegalArgumentException if an option is unknown or has no value.
+     */
+    static Map<String, String> parseOptions(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!OPTIONS.contains(args[i])) {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for option: " + args[i]);
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * Returns a generator with the settings in {@code options}.
+     *
+     * @throws IllegalArgumentException if a setting is not a valid number.
+     */
+    static SyntheticDataGenerator createGenerator(Map<String, String> options) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                options.containsKey("--seed") ? parseSeed(options) : DEFAULT_SEED);
+        if (options.containsKey("--persons")) {
+            generator.withPersonCount(parseCount(options, "--persons"));
+        }
+        if (options.containsKey("--jobs")) {
+            generator.withJobCount(parseCount(options, "--jobs"));
+        }
+        if (options.containsKey("--applications-per-person")) {
+            generator.withApplicationsPerPerson(parseCount(options, "--applications-per-person"));
+        }
+        if (options.containsKey("--max-rounds")) {
+            generator.withMaxRounds(parseCount(options, "--max-rounds"));
+        }
+        return generator;
+    }
+
+    private static int parseCount(Map<String, String> options, String option) {
+        try {
+            return Integer.parseInt(options.get(option));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number for option " + option + ": " + options.get(option));
+        }
+    }
+
+    private static long parseSeed(Map<String, String> options) {
+        try {
+            return Long.parseLong(options.get("--seed"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number for option --seed: " + options.get("--seed"));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -22,9 +23,16 @@ import seedu.address.commons.core.LogsCenter;
  * to be the entry point of the application, weadd n/johnavoid this issue.
  */
 public class Main {
+    /** Runs the commands in a script without the GUI, using {@link BatchMain}. */
+    public static final String BATCH_MODE_ARGUMENT = "--batch";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_MODE_ARGUMENT)) {
+            BatchMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
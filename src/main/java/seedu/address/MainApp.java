@@ -2,7 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.time.Duration;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,27 +10,17 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyApplicationsManager;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.ApplicationsManagerStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonApplicationsManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -48,6 +38,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CommandMetrics commandMetrics;
 
     @Override
     public void init() throws Exception {
@@ -60,62 +51,21 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ApplicationsManagerStorage applicationsManagerStorage = new JsonApplicationsManagerStorage(
-                userPrefs.getApplicationsManagerFilePath());
-        storage = new StorageManager(addressBookStorage, applicationsManagerStorage, userPrefsStorage);
+        WriteBehindStorage writeBehindStorage = new WriteBehindStorage(new StorageManager(
+                userPrefs.getDataFileFormat(), userPrefs.getAddressBookFilePath(),
+                userPrefs.getApplicationsManagerFilePath(), userPrefsStorage));
+        storage = writeBehindStorage;
 
-        model = initModelManager(storage, userPrefs);
+        model = AppInitializer.initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
-    }
-
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address
-     * book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if
-     * {@code storage}'s address book is not found, or an empty address book will be
-     * used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialAddressBookData;
-
-        Optional<ReadOnlyApplicationsManager> applicationsManagerOptional;
-        ReadOnlyApplicationsManager initialApplicationsManagerData;
-
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (addressBookOptional.isEmpty()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialAddressBookData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialAddressBookData = new AddressBook();
+        commandMetrics = new CommandMetrics(config.isCommandMetricsEnabled());
+        if (config.getCommandMetricsLogIntervalSeconds() > 0) {
+            commandMetrics.startLogging(Duration.ofSeconds(config.getCommandMetricsLogIntervalSeconds()));
         }
+        logic = new LogicManager(model, storage, commandMetrics);
 
-        try {
-            applicationsManagerOptional = storage.readApplicationsManager();
-            if (applicationsManagerOptional.isEmpty()) {
-                logger.info("Creating a new data file " + storage.getApplicationsManagerFilePath()
-                        + " populated with a sample ApplicationsManager.");
-            }
-            initialApplicationsManagerData = applicationsManagerOptional
-                    .orElseGet(SampleDataUtil::getSampleApplicationsManager);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getApplicationsManagerFilePath() + " could not be loaded."
-                    + " Will be starting with an empty ApplicationsManager.");
-            initialApplicationsManagerData = SampleDataUtil.getSampleApplicationsManager();
-        }
-
-        return new ModelManager(initialAddressBookData, initialApplicationsManagerData, userPrefs);
+        ui = new UiManager(logic);
+        writeBehindStorage.setWriteFailureHandler(e -> ui.showFeedback(LogicManager.getSaveErrorMessage(e)));
     }
 
     private void initLogging(Config config) {
@@ -123,76 +73,21 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (configOptional.isEmpty()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        // Update config file in case it was missing to begin with or there are
-        // new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs
-     * file path, or a new {@code UserPrefs} with default configuration if errors
-     * occur when reading from the file.
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (prefsOptional.isEmpty()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning(
-                    "Preference file at " + prefsFilePath + " could not be loaded." + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        // Update prefs file in case it was missing to begin with or there are
-        // new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
@@ -204,6 +99,15 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        commandMetrics.stopLogging();
+        if (commandMetrics.isEnabled()) {
+            logger.info(commandMetrics.getSummary());
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
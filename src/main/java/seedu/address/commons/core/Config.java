@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean commandMetricsEnabled = false;
+    private long commandMetricsLogIntervalSeconds = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,25 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public void setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+    }
+
+    /**
+     * Returns how often command metrics are written to the log, in seconds. They are not logged if this is 0.
+     */
+    public long getCommandMetricsLogIntervalSeconds() {
+        return commandMetricsLogIntervalSeconds;
+    }
+
+    public void setCommandMetricsLogIntervalSeconds(long commandMetricsLogIntervalSeconds) {
+        this.commandMetricsLogIntervalSeconds = commandMetricsLogIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +68,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && commandMetricsEnabled == otherConfig.commandMetricsEnabled
+                && commandMetricsLogIntervalSeconds == otherConfig.commandMetricsLogIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, commandMetricsEnabled, commandMetricsLogIntervalSeconds);
     }
 
     @Override
@@ -60,6 +83,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("commandMetricsEnabled", commandMetricsEnabled)
+                .add("commandMetricsLogIntervalSeconds", commandMetricsLogIntervalSeconds)
                 .toString();
     }
 
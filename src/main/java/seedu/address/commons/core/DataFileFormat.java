@@ -0,0 +1,36 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The formats that the address book and applications manager can be saved in.
+ */
+public enum DataFileFormat {
+    /** Pretty-printed JSON, which can be read and edited by hand. */
+    JSON(".json"),
+    /** Jackson's binary JSON format, which is smaller and faster to read and write than JSON. */
+    SMILE(".sml");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by the extension of this format.
+     */
+    public Path toFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+}
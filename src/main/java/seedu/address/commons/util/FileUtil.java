@@ -1,16 +1,24 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -73,11 +81,104 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, atomically replacing its previous content.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFileAtomically(Path, byte[], boolean)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFileAtomically(file, content.getBytes(CHARSET), false);
+    }
+
+    /**
+     * Replaces the content of a file with {@code content}, such that a crash at any point leaves either the old or
+     * the new content in the file, never a mix of both.
+     * The content is written to a temporary file next to {@code file}, flushed to the disk, and then moved over
+     * {@code file}. If {@code isBackupKept} is true, the previous content is kept in the file's backup.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #getBackupPath(Path)
+     */
+    public static void writeToFileAtomically(Path file, byte[] content, boolean isBackupKept) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        if (isBackupKept && isFileExists(file) && Files.size(file) > 0) {
+            backUp(file);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Returns the path of the backup kept by {@link #writeToFileAtomically(Path, byte[], boolean)} for {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the content of {@code file} with the content of its backup, if it has one.
+     *
+     * @return true if the file was restored from its backup.
+     * @throws IOException if the backup could not be copied.
+     */
+    public static boolean restoreBackup(Path file) throws IOException {
+        Path backup = getBackupPath(file);
+        if (!isFileExists(backup)) {
+            return false;
+        }
+        writeToFileAtomically(file, Files.readAllBytes(backup), false);
+        return true;
+    }
+
+    /**
+     * Makes the backup of {@code file} a copy of its current content.
+     * A hard link is used where possible, so that the cost does not depend on the size of the file.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backup = getBackupPath(file);
+        Files.deleteIfExists(backup);
+        try {
+            Files.createLink(backup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to the disk, so that a file just moved into it survives a crash.
+     * Not all platforms allow directories to be opened, so this is only done where possible.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move itself has already been made, and will reach the disk with the next flush of the system.
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
     }
 
 }
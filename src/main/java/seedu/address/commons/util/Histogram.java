@@ -0,0 +1,88 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts non-negative values, such as durations or byte counts, to find their percentiles.
+ * Values are counted in buckets that are about an eighth as wide as the values in them, so percentiles are within
+ * about 12.5% of the actual value while taking the same small amount of memory however many values are recorded.
+ */
+public class Histogram {
+
+    /** Each power of two is split into 2 to the power of this many buckets. */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[Long.SIZE * SUB_BUCKET_COUNT];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records {@code value}, which must not be negative.
+     */
+    public void record(long value) {
+        checkArgument(value >= 0, "Histograms can only record non-negative values");
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if there are none.
+     */
+    public long getMean() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are at most, or 0 if there are none.
+     * The value is rounded up to the largest value in its bucket, but is never more than the largest value recorded.
+     */
+    public long getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentiles should be from 0 to 100");
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length && count > 0; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the bucket of {@code value}. Values below {@link #SUB_BUCKET_COUNT} each have their own bucket, and
+     * every larger power of two is split into {@link #SUB_BUCKET_COUNT} buckets of equal width.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * Returns the largest value in {@code bucket}.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + (bucket & (SUB_BUCKET_COUNT - 1))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
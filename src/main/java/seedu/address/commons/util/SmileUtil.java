@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Converts a Java object instance to Smile, Jackson's binary JSON format, and vice versa.
+ * Objects are mapped with the same settings as {@link JsonUtil}, so any class that can be saved as JSON can be saved
+ * as Smile.
+ */
+public class SmileUtil {
+
+    private static ObjectMapper objectMapper = JsonUtil.configure(new ObjectMapper(new SmileFactory()));
+
+    /**
+     * Converts a given instance of a class into its Smile data.
+     * @param instance The T object to be converted into Smile
+     * @param <T> The generic type to create an instance of
+     * @return Smile data representing the given class instance
+     */
+    public static <T> byte[] toSmileBytes(T instance) throws IOException {
+        requireNonNull(instance);
+        return objectMapper.writeValueAsBytes(instance);
+    }
+
+    /**
+     * Converts given Smile data to an instance of a class.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the Smile data
+     */
+    public static <T> T fromSmileBytes(byte[] smile, Class<T> instanceClass) throws IOException {
+        requireNonNull(smile);
+        return objectMapper.readValue(smile, instanceClass);
+    }
+
+    /**
+     * Returns a parser over the Smile data in {@code in}, which reads values with the same settings as the other
+     * methods of this class. Closing the parser does not close {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+}
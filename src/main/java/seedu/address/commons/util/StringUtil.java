@@ -5,7 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -20,22 +21,88 @@ public class StringUtil {
      *       containsWordIgnoreCase("ABc def", "DEF") == true
      *       containsWordIgnoreCase("ABc def", "AB") == false //not a full word match
      *       </pre>
+     * For matching many sentences against the same words, use a {@link WordMatcher} instead.
      * @param sentence cannot be null
      * @param word cannot be null, cannot be empty, must be a single word
      */
     public static boolean containsWordIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
-        requireNonNull(word);
+        String preppedWord = requireSingleWord(word);
+        return containsAnyWordIgnoreCase(sentence, new String[] {preppedWord});
+    }
+
+    /**
+     * Returns the whitespace-separated words in {@code sentence}.
+     * Gives the same words as splitting on {@code "\\s+"}, without the empty leading word, but does not use a regex.
+     */
+    public static List<String> splitWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int length = sentence.length();
+        int start = skipWhitespace(sentence, 0);
+        while (start < length) {
+            int end = skipWord(sentence, start);
+            words.add(sentence.substring(start, end));
+            start = skipWhitespace(sentence, end);
+        }
+        return words;
+    }
 
+    /**
+     * Returns {@code word} without leading and trailing whitespace.
+     *
+     * @throws NullPointerException if {@code word} is null.
+     * @throws IllegalArgumentException if {@code word} is empty or has more than one word.
+     */
+    static String requireSingleWord(String word) {
+        requireNonNull(word);
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(skipWord(preppedWord, 0) == preppedWord.length(), "Word parameter should be a single word");
+        return preppedWord;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns true if any whitespace-separated word in {@code sentence} is equal to any of {@code words}, ignoring
+     * case. Scans {@code sentence} in place, without allocating.
+     */
+    static boolean containsAnyWordIgnoreCase(String sentence, String[] words) {
+        int length = sentence.length();
+        int start = skipWhitespace(sentence, 0);
+        while (start < length) {
+            int end = skipWord(sentence, start);
+            int wordLength = end - start;
+            for (String word : words) {
+                if (word.length() == wordLength && sentence.regionMatches(true, start, word, 0, wordLength)) {
+                    return true;
+                }
+            }
+            start = skipWhitespace(sentence, end);
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(String s, int from) {
+        int i = from;
+        while (i < s.length() && isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWord(String s, int from) {
+        int i = from;
+        while (i < s.length() && !isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+/**
+ * Matches sentences against a fixed set of words, as {@link StringUtil#containsWordIgnoreCase(String, String)} does
+ * for a single word.
+ * The words are checked once when the matcher is created, so that matching a sentence does not use a regex or
+ * allocate.
+ */
+public class WordMatcher {
+
+    private final String[] words;
+
+    /**
+     * Creates a matcher for {@code words}.
+     *
+     * @throws IllegalArgumentException if any of {@code words} is empty or has more than one word.
+     */
+    public WordMatcher(Collection<String> words) {
+        requireNonNull(words);
+        this.words = words.stream().map(StringUtil::requireSingleWord).toArray(String[]::new);
+    }
+
+    /**
+     * Returns true if {@code sentence} contains any of the words of this matcher, ignoring case.
+     * A full word match is required.
+     */
+    public boolean matchesAnyWordIn(String sentence) {
+        requireNonNull(sentence);
+        return StringUtil.containsAnyWordIgnoreCase(sentence, words);
+    }
+}
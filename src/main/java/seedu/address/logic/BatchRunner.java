@@ -0,0 +1,91 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes a script of commands, one per line, as if they were entered into the app one after another.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped, and an {@code exit} command ends the
+ * script early.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s";
+
+    /**
+     * The number of commands executed from a script, how many of them failed, and how long they took.
+     */
+    public record Summary(int commandCount, int failureCount, Duration duration) {
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getCommandsPerSecond() {
+            return duration.isZero() ? 0 : commandCount / (duration.toNanos() / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Executed %d commands (%d failed) in %.3f s: %.0f commands/s", commandCount,
+                    failureCount, duration.toNanos() / 1e9, getCommandsPerSecond());
+        }
+    }
+
+    private final LogicManager logic;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands with {@code logic}.
+     */
+    public BatchRunner(LogicManager logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Executes the commands in {@code script}, and then saves the data they changed.
+     * A command that fails does not stop the script. Instead, its line number and error message are given to
+     * {@code failureHandler}.
+     *
+     * @throws IOException if the script could not be read, or the data could not be saved at the end.
+     */
+    public Summary run(BufferedReader script, Consumer<String> failureHandler) throws IOException {
+        requireNonNull(script);
+        requireNonNull(failureHandler);
+        int commandCount = 0;
+        int failureCount = 0;
+        long startNanos = System.nanoTime();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                failureHandler.accept(String.format(MESSAGE_FAILED_LINE, lineNumber, e.getMessage()));
+            }
+        }
+
+        logic.saveChangedData();
+        return new Summary(commandCount, failureCount, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+}
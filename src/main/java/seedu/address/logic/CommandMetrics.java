@@ -0,0 +1,245 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.Histogram;
+
+/**
+ * Records how long each stage of running a command takes, and how much memory the command allocates, for each
+ * command word.
+ * <p>
+ * A disabled {@code CommandMetrics} records nothing, and its recordings do not read the clock, so that commands run
+ * at the same speed as without metrics.
+ */
+public class CommandMetrics {
+
+    /**
+     * A measurement taken of every recorded command.
+     */
+    public enum Metric {
+        PARSE_TIME("parse"),
+        EXECUTE_TIME("execute"),
+        SAVE_TIME("save"),
+        ALLOCATED_BYTES("allocated");
+
+        private final String displayName;
+
+        Metric(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * Returns {@code value} of this metric in a human-readable unit.
+         */
+        public String format(long value) {
+            return this == ALLOCATED_BYTES
+                    ? String.format("%.1f KB", value / 1024.0)
+                    : String.format("%.3f ms", value / 1_000_000.0);
+        }
+    }
+
+    public static final String MESSAGE_DISABLED = "Command metrics are not being recorded. "
+            + "Set \"commandMetricsEnabled\" to true in config.json and restart the app to record them.";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been recorded yet.";
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final Recording DISABLED_RECORDING = new Recording(null);
+
+    private final boolean isEnabled;
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    // Guarded by this, as the metrics may be logged from another thread.
+    private final Map<String, Map<Metric, Histogram>> histograms = new TreeMap<>();
+
+    private ScheduledExecutorService loggingExecutor;
+
+    /**
+     * Creates a {@code CommandMetrics} that records commands if {@code isEnabled}.
+     * Allocated bytes are only recorded if the JVM can measure them.
+     */
+    public CommandMetrics(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+        this.threadBean = isEnabled ? getAllocationMeasuringThreadBean() : null;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Starts recording a command, which must be run on the calling thread.
+     */
+    public Recording startRecording() {
+        return isEnabled ? new Recording(this) : DISABLED_RECORDING;
+    }
+
+    /**
+     * Returns the histogram of {@code metric} for commands with {@code commandWord}, or null if no such command has
+     * been recorded.
+     */
+    public synchronized Histogram getHistogram(String commandWord, Metric metric) {
+        requireNonNull(commandWord);
+        requireNonNull(metric);
+        Map<Metric, Histogram> commandHistograms = histograms.get(commandWord);
+        return commandHistograms == null ? null : commandHistograms.get(metric);
+    }
+
+    /**
+     * Returns a summary of the 50th, 95th and 99th percentiles of each metric of each recorded command word.
+     */
+    public synchronized String getSummary() {
+        if (!isEnabled) {
+            return MESSAGE_DISABLED;
+        }
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder("Command metrics (p50 / p95 / p99):");
+        histograms.forEach((commandWord, commandHistograms) -> {
+            summary.append("\n").append(commandWord).append(" (")
+                    .append(commandHistograms.get(Metric.PARSE_TIME).getCount()).append(" runs)");
+            commandHistograms.forEach((metric, histogram) -> {
+                summary.append("\n    ").append(metric.displayName).append(": ");
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    long value = histogram.getPercentile(PERCENTILES[i]);
+                    summary.append(i == 0 ? "" : " / ").append(metric.format(value));
+                }
+            });
+        });
+        return summary.toString();
+    }
+
+    /**
+     * Logs the summary of the metrics every {@code interval} on a background thread, until {@link #stopLogging()}.
+     * Does nothing if this is disabled.
+     */
+    public synchronized void startLogging(Duration interval) {
+        requireNonNull(interval);
+        if (!isEnabled || loggingExecutor != null) {
+            return;
+        }
+        loggingExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loggingExecutor.scheduleAtFixedRate(() -> logger.info(getSummary()), interval.toMillis(),
+                interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops logging the metrics, if they are being logged.
+     */
+    public synchronized void stopLogging() {
+        if (loggingExecutor != null) {
+            loggingExecutor.shutdownNow();
+            loggingExecutor = null;
+        }
+    }
+
+    private synchronized void record(String commandWord, Metric metric, long value) {
+        histograms.computeIfAbsent(commandWord, unused -> new EnumMap<>(Metric.class))
+                .computeIfAbsent(metric, unused -> new Histogram())
+                .record(value);
+    }
+
+    private long getAllocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns the thread bean if it can measure how much memory threads allocate, or null if it cannot.
+     */
+    private static com.sun.management.ThreadMXBean getAllocationMeasuringThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean)
+                || !threadBean.isThreadAllocatedMemorySupported()) {
+            logger.info("Memory allocated by commands cannot be measured on this JVM");
+            return null;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return threadBean;
+    }
+
+    /**
+     * The measurements of a single command, which are added to the metrics when the command finishes.
+     * Each stage of the command is timed from the end of the previous stage.
+     */
+    public static class Recording {
+        private final CommandMetrics metrics;
+        private final long startAllocatedBytes;
+        private final Map<Metric, Long> values = new EnumMap<>(Metric.class);
+        private long stageStartNanos;
+        private String commandWord;
+
+        private Recording(CommandMetrics metrics) {
+            this.metrics = metrics;
+            this.startAllocatedBytes = metrics == null ? 0 : metrics.getAllocatedBytes();
+            this.stageStartNanos = metrics == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Marks the end of parsing {@code commandText}, whose first word is the command word the command is
+         * recorded under.
+         */
+        public void parsed(String commandText) {
+            if (metrics != null) {
+                String trimmedText = commandText.trim();
+                int wordEnd = 0;
+                while (wordEnd < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(wordEnd))) {
+                    wordEnd++;
+                }
+                commandWord = trimmedText.substring(0, wordEnd);
+                endStage(Metric.PARSE_TIME);
+            }
+        }
+
+        /**
+         * Marks the end of executing the command.
+         */
+        public void executed() {
+            endStage(Metric.EXECUTE_TIME);
+        }
+
+        /**
+         * Marks the end of saving the data changed by the command.
+         */
+        public void saved() {
+            endStage(Metric.SAVE_TIME);
+        }
+
+        /**
+         * Adds the measurements of the stages that finished to the metrics.
+         * Commands that could not be parsed are not recorded, as they have no command word.
+         */
+        public void finish() {
+            if (metrics == null || commandWord == null) {
+                return;
+            }
+            if (metrics.threadBean != null) {
+                values.put(Metric.ALLOCATED_BYTES, metrics.getAllocatedBytes() - startAllocatedBytes);
+            }
+            values.forEach((metric, value) -> metrics.record(commandWord, metric, value));
+        }
+
+        private void endStage(Metric metric) {
+            if (metrics != null) {
+                long now = System.nanoTime();
+                values.put(metric, now - stageStartNanos);
+                stageStartNanos = now;
+            }
+        }
+    }
+}
@@ -4,12 +4,15 @@ import java.nio.file.Path;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.JobApplicationSummary;
+import seedu.address.model.application.PersonApplicationSummary;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
 
@@ -42,6 +45,24 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of applications by job */
     List<Application> getApplicationsByJob(Job job);
 
+    /** Returns the number of applications for the job, how many are at each round, and its first few applicants */
+    JobApplicationSummary getJobApplicationSummary(Job job);
+
+    /** Returns the applications of the person sorted by round */
+    PersonApplicationSummary getPersonApplicationSummary(Person person);
+
+    /**
+     * Returns an unmodifiable view of the application summaries of the persons with applications, which reports
+     * each summary that changes to its listeners.
+     */
+    ObservableMap<Person, PersonApplicationSummary> getPersonApplicationSummaries();
+
+    /**
+     * Returns an unmodifiable view of the application summaries of the jobs with applications, which reports each
+     * summary that changes to its listeners.
+     */
+    ObservableMap<Job, JobApplicationSummary> getJobApplicationSummaries();
+
     /** Returns an unmodifiable view of the filtered list of applications */
     List<Application> getApplicationsByPerson(Person person);
 
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
@@ -7,6 +9,7 @@ import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -16,7 +19,11 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.JobApplicationSummary;
+import seedu.address.model.application.PersonApplicationSummary;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -35,14 +42,36 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+
+    /*
+     * Versions of the data last written to storage. These start out unknown, so the
+     * first command always saves, e.g. to create the data files for sample data.
+     */
+    private long savedAddressBookVersion = -1;
+    private long savedApplicationsManagerVersion = -1;
+    private int savesPerformed;
+    private int savesAvoided;
+
+    private int commandsPerSave = 1;
+    private int commandsSinceSave;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics(false));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records the
+     * commands it executes in {@code commandMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics commandMetrics) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandMetrics = commandMetrics;
+        addressBookParser = new AddressBookParser(commandMetrics);
     }
 
     @Override
@@ -51,21 +80,111 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         model.addCommand(commandText);
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveApplicationsManager(model.getApplicationsManager());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            Command command = addressBookParser.parseCommand(commandText);
+            recording.parsed(commandText);
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                // Changes made by a command that failed part way are still undone on their own
+                model.commit();
+            }
+            recording.executed();
+
+            commandsSinceSave++;
+            if (commandsPerSave > 0 && commandsSinceSave >= commandsPerSave) {
+                try {
+                    saveChangedData();
+                } catch (IOException ioe) {
+                    throw new CommandException(getSaveErrorMessage(ioe), ioe);
+                }
+            }
+            recording.saved();
+        } finally {
+            recording.finish();
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the message to show the user when data could not be saved because of {@code ioe}.
+     */
+    public static String getSaveErrorMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Sets how many commands are executed before the changed data is saved. Data is saved after every command by
+     * default. If {@code commandsPerSave} is 0, data is only saved by calling {@link #saveChangedData()}.
+     */
+    public void setCommandsPerSave(int commandsPerSave) {
+        checkArgument(commandsPerSave >= 0, "Number of commands per save should not be negative");
+        this.commandsPerSave = commandsPerSave;
+    }
+
+    /**
+     * Saves the address book and applications manager to storage, skipping any of them
+     * that have not changed since they were last saved.
+     *
+     * @throws IOException if the data could not be saved.
+     */
+    public void saveChangedData() throws IOException {
+        commandsSinceSave = 0;
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        if (userPrefs.getDataFileFormat() != storage.getDataFileFormat()) {
+            storage.setDataFiles(userPrefs.getDataFileFormat(), userPrefs.getAddressBookFilePath(),
+                    userPrefs.getApplicationsManagerFilePath());
+            storage.saveUserPrefs(userPrefs);
+            // The new files start out empty, so everything has to be saved to them
+            savedAddressBookVersion = -1;
+            savedApplicationsManagerVersion = -1;
+        }
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long addressBookVersion = addressBook.getVersion();
+        if (addressBookVersion != savedAddressBookVersion) {
+            storage.saveAddressBook(addressBook);
+            savedAddressBookVersion = addressBookVersion;
+            savesPerformed++;
+        } else {
+            savesAvoided++;
+        }
+
+        ReadOnlyApplicationsManager applicationsManager = model.getApplicationsManager();
+        long applicationsManagerVersion = applicationsManager.getVersion();
+        if (applicationsManagerVersion != savedApplicationsManagerVersion) {
+            storage.saveApplicationsManager(applicationsManager);
+            savedApplicationsManagerVersion = applicationsManagerVersion;
+            savesPerformed++;
+        } else {
+            savesAvoided++;
+        }
+
+        logger.fine("Saves performed: " + savesPerformed + ", saves avoided: " + savesAvoided);
+    }
+
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Returns the number of times a data file has been written by this {@code LogicManager}.
+     */
+    public int getSavesPerformed() {
+        return savesPerformed;
+    }
+
+    /**
+     * Returns the number of times a data file was not written because its data had not changed.
+     */
+    public int getSavesAvoided() {
+        return savesAvoided;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -81,6 +200,26 @@ public class LogicManager implements Logic {
         return model.getApplicationsByJob(job);
     }
 
+    @Override
+    public JobApplicationSummary getJobApplicationSummary(Job job) {
+        return model.getJobApplicationSummary(job);
+    }
+
+    @Override
+    public PersonApplicationSummary getPersonApplicationSummary(Person person) {
+        return model.getPersonApplicationSummary(person);
+    }
+
+    @Override
+    public ObservableMap<Person, PersonApplicationSummary> getPersonApplicationSummaries() {
+        return model.getPersonApplicationSummaries();
+    }
+
+    @Override
+    public ObservableMap<Job, JobApplicationSummary> getJobApplicationSummaries() {
+        return model.getJobApplicationSummaries();
+    }
+
     @Override
     public List<Application> getApplicationsByPerson(Person person) {
         return model.getApplicationsByPerson(person);
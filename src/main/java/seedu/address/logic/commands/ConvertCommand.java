@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Changes the format that the data files are saved in.
+ * The data is written in the new format, to files with the extension of that format, right after this command.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Changes the format that the data is saved in. "
+            + "JSON files can be edited by hand, SMILE files are smaller and faster to load and save.\n"
+            + "Parameters: FORMAT (json or smile)\n"
+            + "Example: " + COMMAND_WORD + " smile";
+
+    public static final String MESSAGE_SUCCESS = "Data is now saved as %1$s in %2$s and %3$s";
+    public static final String MESSAGE_ALREADY_IN_FORMAT = "Data is already saved as %1$s";
+
+    private final DataFileFormat dataFileFormat;
+
+    /**
+     * Creates a ConvertCommand that saves the data as {@code dataFileFormat}.
+     */
+    public ConvertCommand(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        if (userPrefs.getDataFileFormat() == dataFileFormat) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_FORMAT, dataFileFormat));
+        }
+
+        userPrefs.setDataFileFormat(dataFileFormat);
+        userPrefs.setAddressBookFilePath(dataFileFormat.toFilePath(userPrefs.getAddressBookFilePath()));
+        userPrefs.setApplicationsManagerFilePath(
+                dataFileFormat.toFilePath(userPrefs.getApplicationsManagerFilePath()));
+        model.setUserPrefs(userPrefs);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, dataFileFormat, userPrefs.getAddressBookFilePath(),
+                userPrefs.getApplicationsManagerFilePath()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand)) {
+            return false;
+        }
+
+        ConvertCommand otherConvertCommand = (ConvertCommand) other;
+        return dataFileFormat == otherConvertCommand.dataFileFormat;
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.logic.commands;
+
+import java.util.Locale;
+
+/**
+ * The kinds of data that can be imported and exported in bulk.
+ */
+public enum DataType {
+    PERSONS, JOBS, APPLICATIONS;
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -101,8 +101,8 @@ public class EditCommand extends Command {
         Degree updatedDegree = editPersonDescriptor.getDegree().orElse(personToEdit.getDegree());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedSchool, updatedDegree,
-                updatedTags);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedSchool, updatedDegree, updatedTags);
     }
 
     @Override
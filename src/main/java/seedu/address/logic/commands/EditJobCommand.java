@@ -89,7 +89,7 @@ public class EditJobCommand extends Command {
         JobSkills updatedJobSkills = editJobDescriptor.getJobSkills().orElse(jobToEdit.getJobSkills());
         JobType updatedJobType = editJobDescriptor.getJobType().orElse(jobToEdit.getJobType());
 
-        return new Job(updatedJobTitle, updatedJobRounds, updatedJobSkills, updatedJobType);
+        return new Job(jobToEdit.getId(), updatedJobTitle, updatedJobRounds, updatedJobSkills, updatedJobType);
     }
 
     @Override
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.DataExporter;
+
+/**
+ * Writes the persons, jobs or applications currently shown to a CSV or newline-delimited JSON file.
+ * Records are written to the file one at a time, so that large lists can be exported without holding the whole file
+ * in memory.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the persons, jobs or applications shown in "
+            + "the list to a file. Files ending in .csv are written as CSV, and files ending in .ndjson or .jsonl are "
+            + "written as one JSON object on each line.\n"
+            + "Parameters: TYPE (persons, jobs or applications) FILE\n"
+            + "Example: " + COMMAND_WORD + " persons data/shortlist.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    private final DataType type;
+    private final Path filePath;
+    private final DataExporter.Format format;
+
+    /**
+     * Creates an ExportCommand to export the shown {@code type} of data to the file at {@code filePath} in
+     * {@code format}.
+     */
+    public ExportCommand(DataType type, Path filePath, DataExporter.Format format) {
+        requireNonNull(type);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.type = type;
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        int count;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (Writer writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+                count = switch (type) {
+                case PERSONS -> DataExporter.exportPersons(model.getFilteredPersonList(), format, writer);
+                case JOBS -> DataExporter.exportJobs(model.getFilteredJobList(), format, writer);
+                case APPLICATIONS -> DataExporter.exportApplications(model.getFilteredApplicationList(), format,
+                        writer);
+                };
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, type, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand otherExportCommand)) {
+            return false;
+        }
+
+        return type == otherExportCommand.type && filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
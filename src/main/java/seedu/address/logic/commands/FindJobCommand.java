@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYMENT_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_SKILLS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_TITLE;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -8,7 +11,8 @@ import seedu.address.model.Model;
 import seedu.address.model.job.JobContainsKeywordsPredicate;
 
 /**
- * Finds and lists all jobs in address book whose JobTitle contains any of the argument keywords.
+ * Finds and lists all jobs in address book whose title, skills or type contains any of the argument keywords.
+ * Keywords can be limited to the title, skills or type with their prefixes.
  * Keyword matching is case-insensitive.
  */
 public class FindJobCommand extends Command {
@@ -17,8 +21,12 @@ public class FindJobCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all Jobs' whose profile contains any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " Software Engineering";
+            + "Keywords after " + PREFIX_JOB_TITLE + ", " + PREFIX_JOB_SKILLS + " or " + PREFIX_EMPLOYMENT_TYPE
+            + " only match the job title, skills or type, and jobs must match a keyword of each given prefix.\n"
+            + "Parameters: [KEYWORD]... [" + PREFIX_JOB_TITLE + "KEYWORDS]... [" + PREFIX_JOB_SKILLS + "KEYWORDS]... ["
+            + PREFIX_EMPLOYMENT_TYPE + "KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " Software Engineering\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_JOB_SKILLS + "Python " + PREFIX_EMPLOYMENT_TYPE + "Intern";
 
     private final JobContainsKeywordsPredicate predicate;
 
@@ -29,7 +37,7 @@ public class FindJobCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredJobList(this.predicate);
+        model.findJobs(this.predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getFilteredJobList().size()));
     }
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.CsvImporter;
+
+/**
+ * Adds the persons, jobs or applications in a CSV file in one change, which is saved once.
+ * Rows that cannot be imported are listed, and do not stop the other rows from being imported.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports persons, jobs or applications from a CSV "
+            + "file, whose first row names its columns.\n"
+            + "Parameters: TYPE (persons, jobs or applications) FILE\n"
+            + "Columns for persons: " + String.join(", ", CsvImporter.PERSON_COLUMNS) + "\n"
+            + "Columns for jobs: " + String.join(", ", CsvImporter.JOB_COLUMNS) + "\n"
+            + "Columns for applications: " + String.join(", ", CsvImporter.APPLICATION_COLUMNS) + "\n"
+            + "Example: " + COMMAND_WORD + " persons data/candidates.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d %3$s from %4$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more rows that could not be imported";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+
+    /** The number of rows that could not be imported that are listed in the result. */
+    static final int MAX_ERRORS_SHOWN = 10;
+
+    private final DataType type;
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the {@code type} of data in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(DataType type, Path filePath) {
+        requireNonNull(type);
+        requireNonNull(filePath);
+        this.type = type;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        CsvImporter.Result<?> result;
+        try (Reader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            result = switch (type) {
+            case PERSONS -> importAll(CsvImporter.importPersons(reader, model.getAddressBook()), model::addPersons);
+            case JOBS -> importAll(CsvImporter.importJobs(reader, model.getAddressBook()), model::addJobs);
+            case APPLICATIONS -> importAll(CsvImporter.importApplications(reader, model.getAddressBook(),
+                    model.getApplicationsManager()), model::addApplications);
+            };
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                result.imported().size(), result.getRowCount(), type, filePath));
+        List<String> errors = result.errors();
+        errors.stream().limit(MAX_ERRORS_SHOWN).forEach(error -> feedback.append("\n").append(error));
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            feedback.append("\n").append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_ERRORS_SHOWN));
+        }
+        return new CommandResult(feedback.toString(), type == DataType.APPLICATIONS);
+    }
+
+    /**
+     * Adds the imported records of {@code result} with {@code adder}, unless there are none.
+     */
+    private static <T> CsvImporter.Result<T> importAll(CsvImporter.Result<T> result, Consumer<List<T>> adder) {
+        if (!result.imported().isEmpty()) {
+            adder.accept(result.imported());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand otherImportCommand)) {
+            return false;
+        }
+
+        return type == otherImportCommand.type && filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -1,12 +1,20 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYMENT_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_SKILLS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_TITLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindJobCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.job.JobContainsKeywordsPredicate;
+import seedu.address.model.job.JobKeywordIndex.Field;
 
 /**
  * Parses input arguments and creates a new FindJobCommand object
@@ -19,15 +27,46 @@ public class FindJobCommandParser implements Parser<FindJobCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindJobCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_JOB_TITLE, PREFIX_JOB_SKILLS,
+                PREFIX_EMPLOYMENT_TYPE);
+
+        List<String> keywords = splitKeywords(argMultimap.getPreamble());
+        Map<Field, List<String>> fieldKeywords = new EnumMap<>(Field.class);
+        putFieldKeywords(fieldKeywords, Field.TITLE, argMultimap.getAllValues(PREFIX_JOB_TITLE));
+        putFieldKeywords(fieldKeywords, Field.SKILLS, argMultimap.getAllValues(PREFIX_JOB_SKILLS));
+        putFieldKeywords(fieldKeywords, Field.TYPE, argMultimap.getAllValues(PREFIX_EMPLOYMENT_TYPE));
+
+        if (keywords.isEmpty() && fieldKeywords.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return new FindJobCommand(new JobContainsKeywordsPredicate(keywords, fieldKeywords));
+    }
+
+    /**
+     * Adds the keywords in {@code values} of a field prefix to {@code fieldKeywords}.
+     * @throws ParseException if any of the values is blank
+     */
+    private static void putFieldKeywords(Map<Field, List<String>> fieldKeywords, Field field, List<String> values)
+            throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        for (String value : values) {
+            List<String> valueKeywords = splitKeywords(value);
+            if (valueKeywords.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
+            }
+            keywords.addAll(valueKeywords);
+        }
+        if (!keywords.isEmpty()) {
+            fieldKeywords.put(field, keywords);
+        }
+    }
 
-        return new FindJobCommand(new JobContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static List<String> splitKeywords(String value) {
+        String trimmedValue = value.trim();
+        return trimmedValue.isEmpty() ? List.of() : Arrays.asList(trimmedValue.split("\\s+"));
     }
 
 }
@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobContainsKeywordsPredicate;
 import seedu.address.model.job.UniqueJobList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -20,6 +23,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueJobList jobs;
+    private long version;
+    private Consumer<ModelHistory.Edit> editRecorder = edit -> { };
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -50,17 +55,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The change is not recorded as an edit, as undoing it would need a copy of the whole list.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
      * Replaces the contents of the job list with {@code jobs}. {@code jobs} must
      * not contain duplicate jobs.
+     * The change is not recorded as an edit, as undoing it would need a copy of the whole list.
      */
     public void setJobs(List<Job> jobs) {
         this.jobs.setJobs(jobs);
+        version++;
     }
 
     /**
@@ -90,6 +99,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+        record(() -> persons.remove(p), () -> persons.add(p));
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book in a single change. None of the
+     * persons may already exist in the address book, or be the same as another
+     * person in {@code toAdd}.
+     */
+    public void addPersons(List<Person> toAdd) {
+        List<Person> added = List.copyOf(toAdd);
+        int fromIndex = persons.asUnmodifiableObservableList().size();
+        persons.addAll(added);
+        version++;
+        record(() -> persons.removeRange(fromIndex, fromIndex + added.size()), () -> persons.addAll(added));
     }
 
     /**
@@ -102,6 +126,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
+        record(() -> persons.setPerson(editedPerson, target), () -> persons.setPerson(target, editedPerson));
     }
 
     /**
@@ -109,7 +135,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      * the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.remove(key);
+        version++;
+        record(() -> persons.add(index, key), () -> persons.remove(key));
+    }
+
+    /**
+     * Returns the persons in the address book whose details contain any of {@code keywords}, looked up through a
+     * keyword index without looking at the other persons. The returned set compares persons by reference, and does
+     * not change with later changes to the address book.
+     */
+    public Set<Person> findPersonsMatchingAnyKeyword(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findMatchingAnyKeyword(keywords);
     }
 
     //// job-level operations
@@ -129,6 +167,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addJob(Job job) {
         jobs.add(job);
+        version++;
+        record(() -> jobs.remove(job), () -> jobs.add(job));
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book in a single change. None of the jobs
+     * may already exist in the address book, or appear twice in {@code toAdd}.
+     */
+    public void addJobs(List<Job> toAdd) {
+        List<Job> added = List.copyOf(toAdd);
+        int fromIndex = jobs.asUnmodifiableObservableList().size();
+        jobs.addAll(added);
+        version++;
+        record(() -> jobs.removeRange(fromIndex, fromIndex + added.size()), () -> jobs.addAll(added));
     }
 
     /**
@@ -141,6 +193,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedJob);
 
         jobs.setJob(target, editedJob);
+        version++;
+        record(() -> jobs.setJob(editedJob, target), () -> jobs.setJob(target, editedJob));
     }
 
     /**
@@ -148,7 +202,50 @@ public class AddressBook implements ReadOnlyAddressBook {
      * the address book.
      */
     public void removeJob(Job key) {
-        jobs.remove(key);
+        int index = jobs.remove(key);
+        version++;
+        record(() -> jobs.add(index, key), () -> jobs.remove(key));
+    }
+
+    /**
+     * Returns the jobs in the address book that match {@code predicate}, looked up through a keyword index without
+     * looking at the other jobs. The returned set compares jobs by reference, and does not change with later changes
+     * to the address book.
+     */
+    public Set<Job> findJobsMatching(JobContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return jobs.findMatching(predicate);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    //// undo history
+
+    /**
+     * Sets the recorder of the edits made to this address book from now on, so that they can be undone.
+     */
+    void setEditRecorder(Consumer<ModelHistory.Edit> editRecorder) {
+        requireNonNull(editRecorder);
+        this.editRecorder = editRecorder;
+    }
+
+    /**
+     * Records a change that was made to this address book, which {@code undo} reverts and {@code redo} makes again.
+     * Both count as changes to the address book.
+     */
+    private void record(Runnable undo, Runnable redo) {
+        Runnable undoChange = () -> {
+            undo.run();
+            version++;
+        };
+        Runnable redoChange = () -> {
+            redo.run();
+            version++;
+        };
+        editRecorder.accept(new ModelHistory.Edit(undoChange, redoChange));
     }
 
     //// util methods
@@ -2,13 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.JobApplicationSummary;
+import seedu.address.model.application.PersonApplicationSummary;
 import seedu.address.model.application.UniqueApplicationList;
 import seedu.address.model.application.exceptions.ApplicationNotFoundException;
 import seedu.address.model.application.exceptions.InvalidApplicationStatusException;
@@ -18,10 +33,27 @@ import seedu.address.model.person.Person;
 /**
  * Wraps all application data at the applications-manager level Duplicates are
  * not allowed (by Application::equals comparison)
+ *
+ * Applications are additionally indexed by applicant and by job so that lookups
+ * for a single person or job only touch that entity's applications. The indexes
+ * are kept in step with {@code applications} by every mutating method below, and
+ * so are the observable summaries of the applications of each person and job,
+ * which are only updated for the persons and jobs whose applications changed.
  */
 public class ApplicationsManager implements ReadOnlyApplicationsManager {
 
     private final UniqueApplicationList applications;
+    private final Map<Person, List<Application>> applicationsByPerson = new HashMap<>();
+    private final Map<Job, List<Application>> applicationsByJob = new HashMap<>();
+    private final ObservableMap<Person, PersonApplicationSummary> personSummaries =
+            FXCollections.observableHashMap();
+    private final ObservableMap<Job, JobApplicationSummary> jobSummaries = FXCollections.observableHashMap();
+    private final ObservableMap<Person, PersonApplicationSummary> unmodifiablePersonSummaries =
+            FXCollections.unmodifiableObservableMap(personSummaries);
+    private final ObservableMap<Job, JobApplicationSummary> unmodifiableJobSummaries =
+            FXCollections.unmodifiableObservableMap(jobSummaries);
+    private long version;
+    private Consumer<ModelHistory.Edit> editRecorder = edit -> { };
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -52,9 +84,13 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     /**
      * Replaces the contents of the application list with {@code applications}.
      * {@code applications} must not contain duplicate applications.
+     * The change is not recorded as an edit, as undoing it would need a copy of
+     * the whole list.
      */
     public void setApplications(List<Application> applications) {
         this.applications.setApplications(applications);
+        rebuildIndexes();
+        version++;
     }
 
     /**
@@ -84,6 +120,36 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
      */
     public void addApplication(Application application) {
         applications.add(application);
+        index(application);
+        version++;
+        record(() -> {
+            applications.remove(application);
+            unindex(application);
+        }, () -> {
+            applications.add(application);
+            index(application);
+        });
+    }
+
+    /**
+     * Adds {@code toAdd} to the applications manager in a single change. None of
+     * the applications may already exist in the applications manager, or appear
+     * twice in {@code toAdd}.
+     */
+    public void addApplications(List<Application> toAdd) {
+        List<Application> added = List.copyOf(toAdd);
+        Set<Application> addedSet = new HashSet<>(added);
+        int fromIndex = applications.asUnmodifiableObservableList().size();
+        applications.addAll(added);
+        indexAll(added);
+        version++;
+        record(() -> {
+            applications.removeRange(fromIndex, fromIndex + added.size());
+            unindexAll(addedSet);
+        }, () -> {
+            applications.addAll(added);
+            indexAll(added);
+        });
     }
 
     /**
@@ -95,7 +161,7 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public void setApplication(Application target, Application editedApplication) {
         requireNonNull(editedApplication);
 
-        applications.setApplication(target, editedApplication);
+        replaceApplications(List.of(target), List.of(editedApplication));
     }
 
     /**
@@ -103,7 +169,12 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
      * exist in the applications manager.
      */
     public void removeApplication(Application key) {
-        applications.remove(key);
+        requireNonNull(key);
+
+        if (!hasApplication(key)) {
+            throw new ApplicationNotFoundException();
+        }
+        removeApplications(List.of(key));
     }
 
     /**
@@ -118,10 +189,11 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
         requireNonNull(newPerson);
 
         // Find all applications involving this person and update them
-        getApplicationsByPerson(oldPerson).forEach(app -> {
-            Application newApp = new Application(newPerson, app.getJob(), app.getApplicationStatus());
-            setApplication(app, newApp);
-        });
+        List<Application> oldApps = getApplicationsByPerson(oldPerson);
+        List<Application> newApps = oldApps.stream()
+                .map(app -> new Application(newPerson, app.getJob(), app.getApplicationStatus()))
+                .toList();
+        replaceApplications(oldApps, newApps);
     }
 
     /**
@@ -135,16 +207,18 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
         requireNonNull(oldJob);
         requireNonNull(newJob);
 
-        // Find all applications involving this job and update them
-        getApplicationsByJob(oldJob).forEach(app -> {
-            // Check if application status is still valid with new job
-            if (app.getApplicationStatus().applicationStatus > newJob.getJobRounds().jobRounds) {
-                throw new InvalidApplicationStatusException();
-            }
-
-            Application newApp = new Application(app.getApplicant(), newJob, app.getApplicationStatus());
-            setApplication(app, newApp);
-        });
+        // Find all applications involving this job, and check that all of them are
+        // still valid with the new job before updating any of them
+        List<Application> oldApps = getApplicationsByJob(oldJob);
+        List<Application> newApps = oldApps.stream()
+                .map(app -> {
+                    if (app.getApplicationStatus().applicationStatus > newJob.getJobRounds().jobRounds) {
+                        throw new InvalidApplicationStatusException();
+                    }
+                    return new Application(app.getApplicant(), newJob, app.getApplicationStatus());
+                })
+                .toList();
+        replaceApplications(oldApps, newApps);
     }
 
     /**
@@ -155,9 +229,8 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public void removePersonApplications(Person person) {
         requireNonNull(person);
 
-        // Find and remove all applications for this person
-        List<Application> toRemove = getApplicationsByPerson(person);
-        toRemove.forEach(this::removeApplication);
+        // Find and remove all applications for this person in one pass
+        removeApplications(getApplicationsByPerson(person));
     }
 
     /**
@@ -168,9 +241,8 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public void removeJobApplications(Job job) {
         requireNonNull(job);
 
-        // Find and remove all applications for this job
-        List<Application> toRemove = getApplicationsByJob(job);
-        toRemove.forEach(this::removeApplication);
+        // Find and remove all applications for this job in one pass
+        removeApplications(getApplicationsByJob(job));
     }
 
     /**
@@ -182,8 +254,7 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public List<Application> getApplicationsByPerson(Person person) {
         requireNonNull(person);
 
-        return applications.asUnmodifiableObservableList().stream().filter(app -> app.getApplicant().equals(person))
-                .collect(Collectors.toList());
+        return new ArrayList<>(applicationsByPerson.getOrDefault(person, List.of()));
     }
 
     /**
@@ -195,8 +266,53 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
     public List<Application> getApplicationsByJob(Job job) {
         requireNonNull(job);
 
-        return applications.asUnmodifiableObservableList().stream().filter(app -> app.getJob().equals(job))
-                .collect(Collectors.toList());
+        return new ArrayList<>(applicationsByJob.getOrDefault(job, List.of()));
+    }
+
+    /**
+     * Gets the number of applications for a specific job, how many are at each
+     * round, and its first few applicants, which is kept up to date as the job's
+     * applications change.
+     *
+     * @param job The job whose applications to summarise
+     * @return A summary of the applications for the job
+     */
+    public JobApplicationSummary getJobApplicationSummary(Job job) {
+        requireNonNull(job);
+
+        JobApplicationSummary summary = jobSummaries.get(job);
+        return summary == null ? JobApplicationSummary.empty(job) : summary;
+    }
+
+    /**
+     * Gets the applications of a specific person sorted by round, which is kept
+     * up to date as the person's applications change.
+     *
+     * @param person The person whose applications to summarise
+     * @return A summary of the applications of the person
+     */
+    public PersonApplicationSummary getPersonApplicationSummary(Person person) {
+        requireNonNull(person);
+
+        return personSummaries.getOrDefault(person, PersonApplicationSummary.EMPTY);
+    }
+
+    /**
+     * Returns an unmodifiable view of the summaries of the applications of every
+     * person with applications, which reports each summary that changes to its
+     * listeners.
+     */
+    public ObservableMap<Person, PersonApplicationSummary> getPersonApplicationSummaries() {
+        return unmodifiablePersonSummaries;
+    }
+
+    /**
+     * Returns an unmodifiable view of the summaries of the applications of every
+     * job with applications, which reports each summary that changes to its
+     * listeners.
+     */
+    public ObservableMap<Job, JobApplicationSummary> getJobApplicationSummaries() {
+        return unmodifiableJobSummaries;
     }
 
     /**
@@ -221,6 +337,342 @@ public class ApplicationsManager implements ReadOnlyApplicationsManager {
         return advancedApplication;
     }
 
+    /**
+     * Removes {@code toRemove}, which must all exist in the applications
+     * manager, from the list and then from each affected index entry in a
+     * single pass, as a single change. Undoing puts the applications back at the
+     * same positions in the list and in the indexes.
+     */
+    private void removeApplications(Collection<Application> toRemove) {
+        if (toRemove.isEmpty()) {
+            return;
+        }
+        Set<Application> toRemoveSet = new HashSet<>(toRemove);
+        SortedMap<Integer, Application> removed = applications.removeIf(toRemoveSet::contains);
+        IndexPositions indexPositions = unindexAll(toRemoveSet);
+        version++;
+        record(() -> {
+            applications.insertAll(removed);
+            restoreIndexPositions(indexPositions);
+        }, () -> {
+            applications.removeIf(toRemoveSet::contains);
+            unindexAll(toRemoveSet);
+        });
+    }
+
+    /**
+     * Replaces each of {@code targets} with the application at the same position in
+     * {@code editedApplications} as a single change that is undone in the same
+     * order. Applications that move to another applicant or job then keep their
+     * order in the indexes when they are moved back.
+     */
+    private void replaceApplications(List<Application> targets, List<Application> editedApplications) {
+        assert targets.size() == editedApplications.size();
+        if (targets.isEmpty()) {
+            return;
+        }
+        applyReplacements(targets, editedApplications);
+        version++;
+        Runnable undo = () -> applyReplacements(editedApplications, targets);
+        record(undo, () -> applyReplacements(targets, editedApplications));
+    }
+
+    /**
+     * Replaces each of {@code targets} with the application at the same position in
+     * {@code editedApplications} in a single pass over the list, and then in a
+     * single pass over the applications of each affected person and job, whose
+     * summaries are then updated once.
+     */
+    private void applyReplacements(List<Application> targets, List<Application> editedApplications) {
+        Map<Application, Application> replacements = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            replacements.put(targets.get(i), editedApplications.get(i));
+        }
+        applications.replaceAll(replacements);
+        Set<Person> applicants = replaceAllInIndex(applicationsByPerson, targets, replacements,
+                Application::getApplicant);
+        Set<Job> jobs = replaceAllInIndex(applicationsByJob, targets, replacements, Application::getJob);
+        updateSummaries(applicants, jobs);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    //// undo history
+
+    /**
+     * Sets the recorder of the edits made to this applications manager from now
+     * on, so that they can be undone.
+     */
+    void setEditRecorder(Consumer<ModelHistory.Edit> editRecorder) {
+        requireNonNull(editRecorder);
+        this.editRecorder = editRecorder;
+    }
+
+    /**
+     * Records a change that was made to this applications manager, which
+     * {@code undo} reverts and {@code redo} makes again. Both count as changes to
+     * the applications manager.
+     */
+    private void record(Runnable undo, Runnable redo) {
+        Runnable undoChange = () -> {
+            undo.run();
+            version++;
+        };
+        Runnable redoChange = () -> {
+            redo.run();
+            version++;
+        };
+        editRecorder.accept(new ModelHistory.Edit(undoChange, redoChange));
+    }
+
+    //// index maintenance
+
+    /**
+     * Rebuilds the per-person and per-job indexes and summaries from the whole
+     * application list.
+     */
+    private void rebuildIndexes() {
+        applicationsByPerson.clear();
+        applicationsByJob.clear();
+        applications.forEach(application -> {
+            addToIndex(applicationsByPerson, application.getApplicant(), application);
+            addToIndex(applicationsByJob, application.getJob(), application);
+        });
+
+        // Each summary is computed once from its complete index, instead of once for every application
+        personSummaries.clear();
+        jobSummaries.clear();
+        applicationsByPerson.forEach((person, personApplications) ->
+                personSummaries.put(person, PersonApplicationSummary.of(personApplications)));
+        applicationsByJob.forEach((job, jobApplications) ->
+                jobSummaries.put(job, JobApplicationSummary.of(job, jobApplications)));
+    }
+
+    /**
+     * Adds {@code application} to the per-person and per-job indexes and summaries.
+     */
+    private void index(Application application) {
+        addToIndex(applicationsByPerson, application.getApplicant(), application);
+        addToIndex(applicationsByJob, application.getJob(), application);
+        updatePersonSummary(application.getApplicant());
+        updateJobSummary(application.getJob(), null, application);
+    }
+
+    /**
+     * Adds {@code added} to the per-person and per-job indexes, and then updates the
+     * summary of each affected person and job once.
+     */
+    private void indexAll(List<Application> added) {
+        Set<Person> applicants = new HashSet<>();
+        Set<Job> jobs = new HashSet<>();
+        for (Application application : added) {
+            addToIndex(applicationsByPerson, application.getApplicant(), application);
+            addToIndex(applicationsByJob, application.getJob(), application);
+            applicants.add(application.getApplicant());
+            jobs.add(application.getJob());
+        }
+        updateSummaries(applicants, jobs);
+    }
+
+    /**
+     * Removes {@code application} from the per-person and per-job indexes and summaries.
+     */
+    private void unindex(Application application) {
+        removeFromIndex(applicationsByPerson, application.getApplicant(), application);
+        removeFromIndex(applicationsByJob, application.getJob(), application);
+        updatePersonSummary(application.getApplicant());
+        updateJobSummary(application.getJob(), application, null);
+    }
+
+    /**
+     * Removes {@code toRemove} from the per-person and per-job indexes in a single
+     * pass over the applications of each affected person and job, and then updates
+     * the summary of each of them once.
+     *
+     * @return the positions the applications were removed from.
+     */
+    private IndexPositions unindexAll(Set<Application> toRemove) {
+        Set<Person> applicants = new HashSet<>();
+        Set<Job> jobs = new HashSet<>();
+        for (Application application : toRemove) {
+            applicants.add(application.getApplicant());
+            jobs.add(application.getJob());
+        }
+        IndexPositions indexPositions = new IndexPositions(removeAllFromIndex(applicationsByPerson, applicants,
+                toRemove), removeAllFromIndex(applicationsByJob, jobs, toRemove));
+        updateSummaries(applicants, jobs);
+        return indexPositions;
+    }
+
+    /**
+     * Puts the applications removed by {@link #unindexAll(Set)} back at the positions they were removed from, and
+     * then updates the summary of each affected person and job once.
+     */
+    private void restoreIndexPositions(IndexPositions indexPositions) {
+        insertAllIntoIndex(applicationsByPerson, indexPositions.byPerson());
+        insertAllIntoIndex(applicationsByJob, indexPositions.byJob());
+        updateSummaries(indexPositions.byPerson().keySet(), indexPositions.byJob().keySet());
+    }
+
+    /**
+     * Recomputes the summary of {@code person} from their indexed applications, or removes it if they have none.
+     */
+    private void updatePersonSummary(Person person) {
+        List<Application> personApplications = applicationsByPerson.get(person);
+        if (personApplications == null) {
+            personSummaries.remove(person);
+        } else {
+            personSummaries.put(person, PersonApplicationSummary.of(personApplications));
+        }
+    }
+
+    /**
+     * Recomputes the summaries of {@code persons} and {@code jobs} from their indexed applications.
+     */
+    private void updateSummaries(Collection<Person> persons, Collection<Job> jobs) {
+        persons.forEach(this::updatePersonSummary);
+        jobs.forEach(this::updateJobSummary);
+    }
+
+    /**
+     * Recomputes the summary of {@code job} from its indexed applications, or removes it if it has none.
+     */
+    private void updateJobSummary(Job job) {
+        List<Application> jobApplications = applicationsByJob.get(job);
+        if (jobApplications == null) {
+            jobSummaries.remove(job);
+        } else {
+            jobSummaries.put(job, JobApplicationSummary.of(job, jobApplications));
+        }
+    }
+
+    /**
+     * Updates the summary of {@code job} by the application {@code removed} from it and the application
+     * {@code added} to it, either of which may be null, or removes the summary if the job has no applications left.
+     */
+    private void updateJobSummary(Job job, Application removed, Application added) {
+        List<Application> jobApplications = applicationsByJob.get(job);
+        if (jobApplications == null) {
+            jobSummaries.remove(job);
+        } else {
+            JobApplicationSummary summary = jobSummaries.getOrDefault(job, JobApplicationSummary.empty(job));
+            jobSummaries.put(job, summary.withChange(removed, added, jobApplications));
+        }
+    }
+
+    private static <K> void addToIndex(Map<K, List<Application>> index, K key, Application application) {
+        index.computeIfAbsent(key, unused -> new ArrayList<>()).add(application);
+    }
+
+    private static <K> void removeFromIndex(Map<K, List<Application>> index, K key, Application application) {
+        List<Application> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(application);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Removes the applications in {@code toRemove} from the entries of {@code keys} in {@code index}, moving each
+     * application that is kept at most once.
+     *
+     * @return the applications removed from each entry, by the position they were at.
+     */
+    private static <K> Map<K, SortedMap<Integer, Application>> removeAllFromIndex(Map<K, List<Application>> index,
+            Set<K> keys, Set<Application> toRemove) {
+        Map<K, SortedMap<Integer, Application>> removedByKey = new HashMap<>();
+        for (K key : keys) {
+            List<Application> bucket = index.get(key);
+            SortedMap<Integer, Application> removed = new TreeMap<>();
+            int keptCount = 0;
+            for (int i = 0; i < bucket.size(); i++) {
+                Application application = bucket.get(i);
+                if (toRemove.contains(application)) {
+                    removed.put(i, application);
+                } else {
+                    bucket.set(keptCount++, application);
+                }
+            }
+            bucket.subList(keptCount, bucket.size()).clear();
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+            removedByKey.put(key, removed);
+        }
+        return removedByKey;
+    }
+
+    /**
+     * Inserts the applications removed by {@link #removeAllFromIndex(Map, Set, Set)} back into {@code index}, so that
+     * each ends up at the position it was removed from.
+     */
+    private static <K> void insertAllIntoIndex(Map<K, List<Application>> index,
+            Map<K, SortedMap<Integer, Application>> removedByKey) {
+        removedByKey.forEach((key, removed) -> {
+            List<Application> bucket = index.getOrDefault(key, List.of());
+            List<Application> merged = new ArrayList<>(bucket.size() + removed.size());
+            int next = 0;
+            for (Map.Entry<Integer, Application> entry : removed.entrySet()) {
+                // Applications that were kept fill the gaps between the inserted ones
+                while (merged.size() < entry.getKey()) {
+                    merged.add(bucket.get(next++));
+                }
+                merged.add(entry.getValue());
+            }
+            merged.addAll(bucket.subList(next, bucket.size()));
+            index.put(key, merged);
+        });
+    }
+
+    /**
+     * Replaces each of {@code targets} with its value in {@code replacements} in {@code index}, whose entries are
+     * keyed by {@code keyOf}, in a single pass over the entry of each target. An application that keeps its key stays
+     * at the same position in that entry, mirroring {@code UniqueApplicationList}, and the others are moved to the end
+     * of the entry of their new key, in order.
+     *
+     * @return the keys of the entries that changed.
+     */
+    private static <K> Set<K> replaceAllInIndex(Map<K, List<Application>> index, List<Application> targets,
+            Map<Application, Application> replacements, Function<Application, K> keyOf) {
+        Set<K> keys = new LinkedHashSet<>();
+        targets.forEach(target -> keys.add(keyOf.apply(target)));
+        Map<K, List<Application>> movedIn = new LinkedHashMap<>();
+        for (K key : keys) {
+            List<Application> bucket = index.get(key);
+            int keptCount = 0;
+            for (int i = 0; i < bucket.size(); i++) {
+                Application application = bucket.get(i);
+                Application replacement = replacements.getOrDefault(application, application);
+                K newKey = keyOf.apply(replacement);
+                if (newKey.equals(key)) {
+                    bucket.set(keptCount++, replacement);
+                } else {
+                    movedIn.computeIfAbsent(newKey, unused -> new ArrayList<>()).add(replacement);
+                }
+            }
+            bucket.subList(keptCount, bucket.size()).clear();
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
+        movedIn.forEach((key, moved) -> index.computeIfAbsent(key, unused -> new ArrayList<>()).addAll(moved));
+        keys.addAll(movedIn.keySet());
+        return keys;
+    }
+
+    /**
+     * The positions of removed applications in the indexes, by applicant and by job.
+     */
+    private record IndexPositions(Map<Person, SortedMap<Integer, Application>> byPerson,
+            Map<Job, SortedMap<Integer, Application>> byJob) {
+    }
+
     //// util methods
 
     @Override
@@ -5,9 +5,14 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.JobApplicationSummary;
+import seedu.address.model.application.PersonApplicationSummary;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -80,8 +85,37 @@ public interface Model {
      */
     String getNextCommand();
 
+    /**
+     * Groups the changes made to the data since the last commit, if there are any, so that they are undone together.
+     * Changes that were undone and could be redone are discarded when there are new changes.
+     */
+    void commit();
+
+    /**
+     * Returns true if there are changes to undo.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there are undone changes to redo.
+     */
+    boolean canRedo();
+
+    /**
+     * Reverts the changes of the last commit, committing any changes made since then first.
+     * There must be changes to undo.
+     */
+    void undo();
+
+    /**
+     * Makes the changes of the commit that was last undone again.
+     * There must be changes to redo.
+     */
+    void redo();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
+     * The change cannot be undone, and the changes made before it can no longer be undone.
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
@@ -105,6 +139,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in a single change to the address book. None of
+     * {@code persons} may already exist in the address book, or be the same as
+     * another person in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book. The person identity of
@@ -124,6 +165,15 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons that match
+     * {@code predicate} now. They are found in the keyword index of the address
+     * book, instead of by testing {@code predicate} on each person.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersonsByName(NameContainsKeywordsPredicate predicate);
+
     /**
      * Resets the filter of the filtered person list to show all people
      */
@@ -145,6 +195,13 @@ public interface Model {
      */
     void addJob(Job job);
 
+    /**
+     * Adds the given jobs in a single change to the address book. None of
+     * {@code jobs} may already exist in the address book, or appear twice in
+     * {@code jobs}.
+     */
+    void addJobs(List<Job> jobs);
+
     /**
      * Replaces the given job {@code target} with {@code editedJob}. {@code target}
      * must exist in the address book. The job identity of {@code editedJob} must
@@ -163,6 +220,15 @@ public interface Model {
      */
     void updateFilteredJobList(Predicate<Job> predicate);
 
+    /**
+     * Updates the filter of the filtered job list to the jobs that match
+     * {@code predicate} now. They are found in the keyword index of the address
+     * book, instead of by testing {@code predicate} on each job.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findJobs(JobContainsKeywordsPredicate predicate);
+
     /**
      * Resets the filter of the filtered job list to show all jobs
      */
@@ -178,7 +244,8 @@ public interface Model {
 
     /**
      * Replaces applications manager data with the data in
-     * {@code applicationsManager}.
+     * {@code applicationsManager}. The change cannot be undone, and the changes
+     * made before it can no longer be undone.
      */
     void setApplicationsManager(ReadOnlyApplicationsManager applicationsManager);
 
@@ -200,6 +267,13 @@ public interface Model {
      */
     void addApplication(Application application);
 
+    /**
+     * Adds the given applications in a single change to the applications manager.
+     * None of {@code applications} may already exist in the applications manager,
+     * or appear twice in {@code applications}.
+     */
+    void addApplications(List<Application> applications);
+
     /**
      * Replaces the given application {@code target} with {@code editedApplication}.
      * {@code target} must exist in the applications manager. The application
@@ -227,6 +301,30 @@ public interface Model {
      */
     List<Application> getApplicationsByJob(Job job);
 
+    /**
+     * Returns the number of applications for a specific job and its first few applicants.
+     * @return A summary of the applications for the job
+     */
+    JobApplicationSummary getJobApplicationSummary(Job job);
+
+    /**
+     * Returns the applications of a specific person sorted by round.
+     * @return A summary of the applications of the person
+     */
+    PersonApplicationSummary getPersonApplicationSummary(Person person);
+
+    /**
+     * Returns an unmodifiable view of the application summaries of the persons with applications, which reports
+     * each summary that changes to its listeners.
+     */
+    ObservableMap<Person, PersonApplicationSummary> getPersonApplicationSummaries();
+
+    /**
+     * Returns an unmodifiable view of the application summaries of the jobs with applications, which reports each
+     * summary that changes to its listeners.
+     */
+    ObservableMap<Job, JobApplicationSummary> getJobApplicationSummaries();
+
     /** Returns an unmodifiable view of the filtered application list */
     ObservableList<Application> getFilteredApplicationList();
 
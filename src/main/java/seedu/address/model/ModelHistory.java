@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The changes made to the data of the model, for undoing and redoing them.
+ * Each change is recorded as an {@link Edit} by the part of the model that made it, holding only the elements it
+ * changed and where they were, and the edits made by one command are committed together. The last
+ * {@value #MAX_UNDO_COUNT} commits are kept in a ring buffer, so undoing a commit costs as much as the commit itself
+ * and the memory used is bounded by the size of the changes, not the size of the data. Replacing all the data is
+ * not recorded, as it would need a copy of the data, and clears the history instead.
+ */
+class ModelHistory {
+
+    /** The number of commits that can be undone. */
+    static final int MAX_UNDO_COUNT = 100;
+
+    /**
+     * A change to the data of the model, with the operations that revert it and make it again.
+     * The operations must not record edits of their own.
+     */
+    record Edit(Runnable undo, Runnable redo) {
+        Edit {
+            requireAllNonNull(undo, redo);
+        }
+    }
+
+    // The commits that can be undone, oldest first, followed by the commits that can be redone
+    private final List<List<Edit>> commits = new ArrayList<>(MAX_UNDO_COUNT);
+    private final List<Edit> pendingEdits = new ArrayList<>();
+    private int start;
+    private int undoCount;
+    private int redoCount;
+
+    /**
+     * Records {@code edit} as a change made since the last commit.
+     */
+    void record(Edit edit) {
+        requireNonNull(edit);
+        pendingEdits.add(edit);
+    }
+
+    /**
+     * Commits the edits recorded since the last commit, if there are any, so that they are undone and redone together.
+     * The commits that could be redone are discarded, and the oldest commit is discarded if there are too many to
+     * undo.
+     */
+    void commit() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        List<Edit> edits = List.copyOf(pendingEdits);
+        pendingEdits.clear();
+
+        if (undoCount < MAX_UNDO_COUNT) {
+            set(undoCount, edits);
+            undoCount++;
+        } else {
+            // The buffer is full of commits to undo, so the oldest one is overwritten
+            set(0, edits);
+            start = (start + 1) % MAX_UNDO_COUNT;
+        }
+        redoCount = 0;
+    }
+
+    /**
+     * Discards all the commits and the edits that have not been committed, for when the data has been replaced in a
+     * way that was not recorded.
+     */
+    void clear() {
+        commits.clear();
+        pendingEdits.clear();
+        start = 0;
+        undoCount = 0;
+        redoCount = 0;
+    }
+
+    boolean canUndo() {
+        return undoCount > 0 || !pendingEdits.isEmpty();
+    }
+
+    boolean canRedo() {
+        return redoCount > 0 && pendingEdits.isEmpty();
+    }
+
+    /**
+     * Reverts the edits of the last commit, last edit first. Edits that have not been committed are committed first.
+     * There must be a commit to undo.
+     */
+    void undo() {
+        assert canUndo();
+        commit();
+        undoCount--;
+        redoCount++;
+        List<Edit> edits = get(undoCount);
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).undo().run();
+        }
+    }
+
+    /**
+     * Makes the edits of the commit that was last undone again, first edit first.
+     * There must be a commit to redo.
+     */
+    void redo() {
+        assert canRedo();
+        get(undoCount).forEach(edit -> edit.redo().run());
+        undoCount++;
+        redoCount--;
+    }
+
+    /**
+     * Returns the commit at {@code position}, counted from the oldest commit.
+     */
+    private List<Edit> get(int position) {
+        return commits.get((start + position) % MAX_UNDO_COUNT);
+    }
+
+    /**
+     * Stores {@code edits} as the commit at {@code position}, counted from the oldest commit.
+     */
+    private void set(int position, List<Edit> edits) {
+        int index = (start + position) % MAX_UNDO_COUNT;
+        if (index == commits.size()) {
+            commits.add(edits);
+        } else {
+            commits.set(index, edits);
+        }
+    }
+}
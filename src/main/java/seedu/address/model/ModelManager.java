@@ -5,15 +5,21 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.application.Application;
+import seedu.address.model.application.JobApplicationSummary;
+import seedu.address.model.application.PersonApplicationSummary;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -29,6 +35,7 @@ public class ModelManager implements Model {
     private final StackableFilteredList<Job> filteredJobs;
     private final FilteredList<Application> filteredApplications;
     private final DoublyLinkedList commandHistory;
+    private final ModelHistory history;
 
     /**
      * Initializes a ModelManager with the given addressBook, applicationsManager,
@@ -48,6 +55,9 @@ public class ModelManager implements Model {
         this.filteredJobs = new StackableFilteredList<>(this.addressBook.getJobList());
         this.filteredApplications = new FilteredList<>(this.applicationsManager.getApplicationList());
         commandHistory = new DoublyLinkedList();
+        history = new ModelHistory();
+        this.addressBook.setEditRecorder(history::record);
+        this.applicationsManager.setEditRecorder(history::record);
     }
 
     public ModelManager() {
@@ -122,12 +132,42 @@ public class ModelManager implements Model {
         return commandHistory.getCommand();
     }
 
+    // =========== Undo History
+    // ================================================================================
+
+    @Override
+    public void commit() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        history.undo();
+    }
+
+    @Override
+    public void redo() {
+        history.redo();
+    }
+
     // =========== AddressBook
     // ================================================================================
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        // Replacing all the data is not recorded, so the recorded edits may no longer apply
+        history.clear();
     }
 
     @Override
@@ -158,6 +198,12 @@ public class ModelManager implements Model {
         resetFilteredPersonList();
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        resetFilteredPersonList();
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -192,6 +238,12 @@ public class ModelManager implements Model {
         resetFilteredJobList();
     }
 
+    @Override
+    public void addJobs(List<Job> jobs) {
+        addressBook.addJobs(jobs);
+        resetFilteredJobList();
+    }
+
     @Override
     public void setJob(Job target, Job editedJob) {
         requireAllNonNull(target, editedJob);
@@ -221,6 +273,13 @@ public class ModelManager implements Model {
         filteredPersons.addPredicate(predicate);
     }
 
+    @Override
+    public void findPersonsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matching = addressBook.findPersonsMatchingAnyKeyword(predicate.getKeywords());
+        filteredPersons.addPredicate(matching::contains);
+    }
+
     public void resetFilteredPersonList() {
         filteredPersons.clearFilters();
     }
@@ -243,6 +302,13 @@ public class ModelManager implements Model {
         filteredJobs.addPredicate(predicate);
     }
 
+    @Override
+    public void findJobs(JobContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Job> matching = addressBook.findJobsMatching(predicate);
+        filteredJobs.addPredicate(matching::contains);
+    }
+
     public void resetFilteredJobList() {
         filteredJobs.clearFilters();
     }
@@ -258,6 +324,7 @@ public class ModelManager implements Model {
     @Override
     public void setApplicationsManager(ReadOnlyApplicationsManager applicationsManager) {
         this.applicationsManager.resetData(applicationsManager);
+        history.clear();
     }
 
     @Override
@@ -277,6 +344,12 @@ public class ModelManager implements Model {
         updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
     }
 
+    @Override
+    public void addApplications(List<Application> applications) {
+        applicationsManager.addApplications(applications);
+        updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
+    }
+
     @Override
     public void setApplication(Application target, Application editedApplication) {
         requireAllNonNull(target, editedApplication);
@@ -301,6 +374,28 @@ public class ModelManager implements Model {
         return applicationsManager.getApplicationsByJob(job);
     }
 
+    @Override
+    public JobApplicationSummary getJobApplicationSummary(Job job) {
+        requireNonNull(job);
+        return applicationsManager.getJobApplicationSummary(job);
+    }
+
+    @Override
+    public PersonApplicationSummary getPersonApplicationSummary(Person person) {
+        requireNonNull(person);
+        return applicationsManager.getPersonApplicationSummary(person);
+    }
+
+    @Override
+    public ObservableMap<Person, PersonApplicationSummary> getPersonApplicationSummaries() {
+        return applicationsManager.getPersonApplicationSummaries();
+    }
+
+    @Override
+    public ObservableMap<Job, JobApplicationSummary> getJobApplicationSummaries() {
+        return applicationsManager.getJobApplicationSummaries();
+    }
+
     @Override
     public ObservableList<Application> getFilteredApplicationList() {
         return filteredApplications;
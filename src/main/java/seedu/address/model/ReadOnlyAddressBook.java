@@ -20,4 +20,10 @@ public interface ReadOnlyAddressBook {
      * duplicate jobs.
      */
     ObservableList<Job> getJobList();
+
+    /**
+     * Returns a number that changes whenever the contents of this address book change.
+     * Two calls that return the same version saw the same data.
+     */
+    long getVersion();
 }
@@ -12,4 +12,10 @@ public interface ReadOnlyApplicationsManager {
      * contain any duplicate applications.
      */
     ObservableList<Application> getApplicationList();
+
+    /**
+     * Returns a number that changes whenever the contents of this applications
+     * manager change. Two calls that return the same version saw the same data.
+     */
+    long getVersion();
 }
@@ -0,0 +1,120 @@
+package seedu.address.model.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list that can also remove, replace or insert many elements in a single pass over the list.
+ * Each of these bulk operations is reported to the listeners of the list as a single change, instead of one change
+ * for every element, and moves every other element at most once.
+ */
+class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final ArrayList<E> elements = new ArrayList<>();
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the elements that satisfy {@code filter}, and returns them by the indexes they were at.
+     */
+    SortedMap<Integer, E> removeMatching(Predicate<? super E> filter) {
+        SortedMap<Integer, E> removed = new TreeMap<>();
+        beginChange();
+        try {
+            // The elements that are kept are moved to the front, in order
+            int keptCount = 0;
+            for (int i = 0; i < elements.size(); i++) {
+                E element = elements.get(i);
+                if (filter.test(element)) {
+                    removed.put(i, element);
+                    // The element is at keptCount once the elements removed before it are gone
+                    nextRemove(keptCount, element);
+                } else {
+                    elements.set(keptCount++, element);
+                }
+            }
+            elements.subList(keptCount, elements.size()).clear();
+            if (!removed.isEmpty()) {
+                modCount++;
+            }
+        } finally {
+            endChange();
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces each element that is a key of {@code replacements} with its value.
+     */
+    void replaceMatching(Map<E, E> replacements) {
+        beginChange();
+        try {
+            for (int i = 0; i < elements.size(); i++) {
+                E replacement = replacements.get(elements.get(i));
+                if (replacement != null) {
+                    nextSet(i, elements.set(i, replacement));
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Inserts the values of {@code toInsert} so that each ends up at the index that is its key, which must be less than
+     * the size of the list with the values inserted.
+     */
+    void insertAt(SortedMap<Integer, E> toInsert) {
+        List<E> merged = new ArrayList<>(elements.size() + toInsert.size());
+        beginChange();
+        try {
+            int next = 0;
+            for (Map.Entry<Integer, E> entry : toInsert.entrySet()) {
+                int index = entry.getKey();
+                // Elements that were not inserted fill the gaps between the inserted ones
+                while (merged.size() < index) {
+                    merged.add(elements.get(next++));
+                }
+                merged.add(entry.getValue());
+                nextAdd(index, index + 1);
+            }
+            merged.addAll(elements.subList(next, elements.size()));
+            elements.clear();
+            elements.addAll(merged);
+            if (!toInsert.isEmpty()) {
+                modCount++;
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
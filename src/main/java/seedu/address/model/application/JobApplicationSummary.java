@@ -0,0 +1,91 @@
+package seedu.address.model.application;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * The number of applications for a job, how many of them are at each round, and the first few of its applicants.
+ * A summary is updated by the applications added to or removed from the job, so keeping it up to date does not
+ * depend on how many applications the job has.
+ *
+ * @param roundCounts the number of applications at each round, indexed by round from 0 to the job's rounds.
+ */
+public record JobApplicationSummary(int applicationCount, List<Integer> roundCounts,
+        List<Person> previewApplicants) {
+
+    /** The number of applicants previewed in a summary. */
+    public static final int PREVIEW_SIZE = 3;
+
+    /**
+     * Creates a summary of a job with {@code roundCounts} and {@code previewApplicants}, whose lists cannot be
+     * modified afterwards.
+     */
+    public JobApplicationSummary {
+        requireAllNonNull(roundCounts, previewApplicants);
+        roundCounts = List.copyOf(roundCounts);
+        previewApplicants = List.copyOf(previewApplicants);
+    }
+
+    /**
+     * Returns the summary of {@code job} when it has no applications.
+     */
+    public static JobApplicationSummary empty(Job job) {
+        requireNonNull(job);
+        return new JobApplicationSummary(0, Collections.nCopies(job.getJobRounds().jobRounds + 1, 0), List.of());
+    }
+
+    /**
+     * Creates the summary of {@code job} with {@code applications}, in their order.
+     */
+    public static JobApplicationSummary of(Job job, List<Application> applications) {
+        requireAllNonNull(job, applications);
+        List<Integer> roundCounts = new ArrayList<>(empty(job).roundCounts());
+        applications.forEach(application -> {
+            int round = application.getApplicationStatus().applicationStatus;
+            roundCounts.set(round, roundCounts.get(round) + 1);
+        });
+        return new JobApplicationSummary(applications.size(), roundCounts, getPreviewApplicants(applications));
+    }
+
+    /**
+     * Returns this summary with {@code removed} taken out and {@code added} put in, where either may be null, and
+     * the job then has {@code applications}, in their order.
+     */
+    public JobApplicationSummary withChange(Application removed, Application added, List<Application> applications) {
+        requireNonNull(applications);
+        List<Integer> newRoundCounts = new ArrayList<>(roundCounts);
+        int newApplicationCount = applicationCount;
+        if (removed != null) {
+            int round = removed.getApplicationStatus().applicationStatus;
+            newRoundCounts.set(round, newRoundCounts.get(round) - 1);
+            newApplicationCount--;
+        }
+        if (added != null) {
+            int round = added.getApplicationStatus().applicationStatus;
+            newRoundCounts.set(round, newRoundCounts.get(round) + 1);
+            newApplicationCount++;
+        }
+        return new JobApplicationSummary(newApplicationCount, newRoundCounts, getPreviewApplicants(applications));
+    }
+
+    /**
+     * Returns the number of applicants that are counted but not previewed.
+     */
+    public int getHiddenApplicantCount() {
+        return applicationCount - previewApplicants.size();
+    }
+
+    private static List<Person> getPreviewApplicants(List<Application> applications) {
+        return applications.stream()
+                .limit(PREVIEW_SIZE)
+                .map(Application::getApplicant)
+                .toList();
+    }
+}
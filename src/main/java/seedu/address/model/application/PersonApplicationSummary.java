@@ -0,0 +1,47 @@
+package seedu.address.model.application;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The applications of a person, sorted from the lowest round to the furthest round reached, which is what a person
+ * card shows.
+ */
+public record PersonApplicationSummary(List<Application> sortedApplications) {
+
+    /** The summary of a person with no applications. */
+    public static final PersonApplicationSummary EMPTY = new PersonApplicationSummary(List.of());
+
+    /**
+     * Creates a summary of {@code sortedApplications}, which cannot be modified afterwards.
+     */
+    public PersonApplicationSummary {
+        requireAllNonNull(sortedApplications);
+        sortedApplications = List.copyOf(sortedApplications);
+    }
+
+    /**
+     * Creates the summary of a person with {@code applications}, in any order.
+     */
+    public static PersonApplicationSummary of(List<Application> applications) {
+        requireAllNonNull(applications);
+        return new PersonApplicationSummary(applications.stream()
+                .sorted(Comparator.comparing(Application::getApplicationStatus))
+                .toList());
+    }
+
+    public int getApplicationCount() {
+        return sortedApplications.size();
+    }
+
+    /**
+     * Returns the furthest round that any of the applications has reached, or 0 if there are no applications.
+     */
+    public int getFurthestRound() {
+        return sortedApplications.isEmpty()
+                ? 0
+                : sortedApplications.get(sortedApplications.size() - 1).getApplicationStatus().applicationStatus;
+    }
+}
@@ -3,8 +3,13 @@ package seedu.address.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,12 +19,15 @@ import seedu.address.model.application.exceptions.DuplicateApplicationException;
 /**
  * A list of applications that enforces uniqueness between its elements and does
  * not allow nulls. An application is considered unique by comparing using
- * {@code Application#equals(Object)}.
- * Supports a minimal set of list operations.
+ * {@code Application#equals(Object)}. The applications are also kept in a
+ * hash set, so that uniqueness checks do not have to scan the list.
+ * Supports a minimal set of list operations, and bulk operations that change
+ * many applications in a single pass over the list.
  */
 public class UniqueApplicationList implements Iterable<Application> {
 
-    private final ObservableList<Application> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Application> internalList = new BatchedObservableList<>();
+    private final Set<Application> applicationSet = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent application as the given
@@ -27,7 +35,7 @@ public class UniqueApplicationList implements Iterable<Application> {
      */
     public boolean contains(Application toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(app -> app.equals(toCheck));
+        return applicationSet.contains(toCheck);
     }
 
     /**
@@ -40,6 +48,34 @@ public class UniqueApplicationList implements Iterable<Application> {
             throw new DuplicateApplicationException();
         }
         internalList.add(toAdd);
+        applicationSet.add(toAdd);
+    }
+
+    /**
+     * Adds an application to the list at {@code index}, before the application
+     * that was at that index. The application must not already exist in the list.
+     */
+    public void add(int index, Application toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateApplicationException();
+        }
+        internalList.add(index, toAdd);
+        applicationSet.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the
+     * list. None of the applications may already exist in the list, or appear
+     * twice in {@code toAdd}.
+     */
+    public void addAll(List<Application> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!areApplicationsUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateApplicationException();
+        }
+        internalList.addAll(toAdd);
+        applicationSet.addAll(toAdd);
     }
 
     /**
@@ -61,22 +97,96 @@ public class UniqueApplicationList implements Iterable<Application> {
         }
 
         internalList.set(index, editedApplication);
+        applicationSet.remove(target);
+        applicationSet.add(editedApplication);
     }
 
     /**
-     * Removes the equivalent application from the list. The application must exist
-     * in the list.
+     * Removes the equivalent application from the list, and returns the index it
+     * was at. The application must exist in the list.
      */
-    public void remove(Application toRemove) {
+    public int remove(Application toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ApplicationNotFoundException();
         }
+        internalList.remove(index);
+        applicationSet.remove(toRemove);
+        return index;
+    }
+
+    /**
+     * Removes the applications from {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive, as a single change to the list.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        internalList.subList(fromIndex, toIndex).forEach(applicationSet::remove);
+        internalList.remove(fromIndex, toIndex);
+    }
+
+    /**
+     * Removes the applications that satisfy {@code filter} in a single pass over
+     * the list, as a single change to the list, and returns them by the indexes
+     * they were at.
+     */
+    public SortedMap<Integer, Application> removeIf(Predicate<? super Application> filter) {
+        requireNonNull(filter);
+        SortedMap<Integer, Application> removed = internalList.removeMatching(filter);
+        applicationSet.removeAll(removed.values());
+        return removed;
+    }
+
+    /**
+     * Replaces each application that is a key of {@code replacements} with its
+     * value in a single pass over the list, as a single change to the list. Every
+     * key must exist in the list. The values must not be the same as each other, or
+     * as an application in the list that is not replaced.
+     */
+    public void replaceAll(Map<Application, Application> replacements) {
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+        if (!applicationSet.containsAll(replacements.keySet())) {
+            throw new ApplicationNotFoundException();
+        }
+        Set<Application> editedApplications = new HashSet<>(replacements.values());
+        if (editedApplications.size() != replacements.size() || editedApplications.stream()
+                .anyMatch(application -> contains(application) && !replacements.containsKey(application))) {
+            throw new DuplicateApplicationException();
+        }
+
+        internalList.replaceMatching(replacements);
+        applicationSet.removeAll(replacements.keySet());
+        applicationSet.addAll(editedApplications);
+    }
+
+    /**
+     * Inserts the values of {@code toInsert} so that each ends up at the index
+     * that is its key, in a single pass over the list, as a single change to the
+     * list. This puts back the applications removed by
+     * {@link #removeIf(Predicate)}. None of the applications may already exist in
+     * the list, or appear twice in {@code toInsert}.
+     */
+    public void insertAll(SortedMap<Integer, Application> toInsert) {
+        requireAllNonNull(toInsert.values());
+        List<Application> applications = List.copyOf(toInsert.values());
+        if (!areApplicationsUnique(applications) || applications.stream().anyMatch(this::contains)) {
+            throw new DuplicateApplicationException();
+        }
+        if (!toInsert.isEmpty() && (toInsert.firstKey() < 0
+                || toInsert.lastKey() >= internalList.size() + toInsert.size())) {
+            throw new IndexOutOfBoundsException("Index out of bounds for the list with the applications inserted");
+        }
+
+        internalList.insertAt(toInsert);
+        applicationSet.addAll(applications);
     }
 
     public void setApplications(UniqueApplicationList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        applicationSet.clear();
+        applicationSet.addAll(replacement.applicationSet);
     }
 
     /**
@@ -89,6 +199,8 @@ public class UniqueApplicationList implements Iterable<Application> {
             throw new DuplicateApplicationException();
         }
         this.internalList.setAll(applications);
+        this.applicationSet.clear();
+        this.applicationSet.addAll(applications);
     }
 
     /**
@@ -130,13 +242,6 @@ public class UniqueApplicationList implements Iterable<Application> {
      * Returns true if {@code applications} contains only unique applications.
      */
     private boolean areApplicationsUnique(List<Application> applications) {
-        for (int i = 0; i < applications.size() - 1; i++) {
-            for (int j = i + 1; j < applications.size(); j++) {
-                if (applications.get(i).equals(applications.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new HashSet<>(applications).size() == applications.size();
     }
 }
@@ -3,18 +3,21 @@ package seedu.address.model.job;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Represents a job with a job title and company name.
  */
 public class Job {
+    private final UUID id;
     private final JobTitle jobTitle;
     private final JobRounds jobRounds;
     private final JobSkills jobSkills;
     private final JobType jobType;
 
     /**
-     * Constructs a Job with the specified job title and company name.
+     * Constructs a Job with the specified job title and company name, and a new,
+     * randomly generated id.
      *
      * @param jobTitle  The title of the job.
      * @param jobRounds The rounds of the job.
@@ -22,13 +25,37 @@ public class Job {
      * @param jobType   The employment type of the job.
      */
     public Job(JobTitle jobTitle, JobRounds jobRounds, JobSkills jobSkills, JobType jobType) {
-        requireAllNonNull(jobTitle, jobRounds, jobSkills, jobType);
+        this(UUID.randomUUID(), jobTitle, jobRounds, jobSkills, jobType);
+    }
+
+    /**
+     * Constructs a Job with the specified id and details.
+     *
+     * @param id        The id that identifies the job in storage.
+     * @param jobTitle  The title of the job.
+     * @param jobRounds The rounds of the job.
+     * @param jobSkills The requisite skills for the job.
+     * @param jobType   The employment type of the job.
+     */
+    public Job(UUID id, JobTitle jobTitle, JobRounds jobRounds, JobSkills jobSkills, JobType jobType) {
+        requireAllNonNull(id, jobTitle, jobRounds, jobSkills, jobType);
+        this.id = id;
         this.jobTitle = jobTitle;
         this.jobRounds = jobRounds;
         this.jobSkills = jobSkills;
         this.jobType = jobType;
     }
 
+    /**
+     * Returns the id that identifies this job in storage. It is kept when the job is
+     * edited, and is not part of {@link #equals(Object)}.
+     *
+     * @return The id.
+     */
+    public UUID getId() {
+        return this.id;
+    }
+
     /**
      * Returns the job title of this job.
      *
@@ -1,26 +1,65 @@
 package seedu.address.model.job;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
+import seedu.address.commons.util.WordMatcher;
+import seedu.address.model.job.JobKeywordIndex.Field;
 
 /**
- * Tests that am {@code Application}'s {@code Job} matches any of the keywords given.
+ * Tests that a {@code Job}'s title, skills or type matches any of the keywords given.
+ * Keywords can also be limited to a single field, in which case the job must match any of the keywords of every such
+ * field as well.
  */
 public class JobContainsKeywordsPredicate implements Predicate<Job> {
     private final List<String> keywords;
+    private final Map<Field, List<String>> fieldKeywords;
+    private final WordMatcher matcher;
+    private final Map<Field, WordMatcher> fieldMatchers = new EnumMap<>(Field.class);
 
     public JobContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a predicate that matches jobs with any of {@code keywords} in any field, and any of the keywords in
+     * {@code fieldKeywords} in each of its fields.
+     */
+    public JobContainsKeywordsPredicate(List<String> keywords, Map<Field, List<String>> fieldKeywords) {
+        requireNonNull(keywords);
+        requireNonNull(fieldKeywords);
         this.keywords = keywords;
+        this.fieldKeywords = fieldKeywords.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(fieldKeywords));
+        this.matcher = new WordMatcher(keywords);
+        fieldKeywords.forEach((field, words) -> fieldMatchers.put(field, new WordMatcher(words)));
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public Map<Field, List<String>> getFieldKeywords() {
+        return fieldKeywords;
     }
 
     @Override
     public boolean test(Job job) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(Messages.format(job), keyword));
+        if (keywords.isEmpty() && fieldKeywords.isEmpty()) {
+            return false;
+        }
+        if (!keywords.isEmpty() && Arrays.stream(Field.values()).noneMatch(field -> field.matches(job, matcher))) {
+            return false;
+        }
+        return fieldMatchers.entrySet().stream().allMatch(entry -> entry.getKey().matches(job, entry.getValue()));
     }
 
     @Override
@@ -35,11 +74,12 @@ public class JobContainsKeywordsPredicate implements Predicate<Job> {
         }
 
         JobContainsKeywordsPredicate otherJobContainsKeywordsPredicate = (JobContainsKeywordsPredicate) other;
-        return keywords.equals(otherJobContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherJobContainsKeywordsPredicate.keywords)
+                && fieldKeywords.equals(otherJobContainsKeywordsPredicate.fieldKeywords);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("fieldKeywords", fieldKeywords).toString();
     }
 }
@@ -0,0 +1,163 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WordMatcher;
+
+/**
+ * An inverted index from the words in the titles, skills and types of jobs to the jobs that have them.
+ * Each {@link Field} is indexed separately, so that searches can be limited to some of the fields.
+ * Words are compared ignoring case.
+ *
+ * Jobs are indexed by reference, so a job must be removed using the same instance that was added.
+ */
+public class JobKeywordIndex {
+
+    /**
+     * A searchable field of a job.
+     */
+    public enum Field {
+        TITLE(job -> Stream.of(job.getJobTitle().jobTitle())),
+        SKILLS(job -> job.getJobSkills().value.stream()),
+        TYPE(job -> Stream.of(job.getJobType().getDisplayType()));
+
+        private final Function<Job, Stream<String>> values;
+
+        Field(Function<Job, Stream<String>> values) {
+            this.values = values;
+        }
+
+        /**
+         * Returns the lower-cased whitespace-separated words in this field of {@code job}.
+         */
+        public Set<String> wordsOf(Job job) {
+            requireNonNull(job);
+            return values.apply(job)
+                    .flatMap(value -> StringUtil.splitWords(value.toLowerCase(Locale.ROOT)).stream())
+                    .collect(Collectors.toSet());
+        }
+
+        /**
+         * Returns true if this field of {@code job} contains any of the words of {@code matcher}.
+         */
+        public boolean matches(Job job, WordMatcher matcher) {
+            requireNonNull(job);
+            return values.apply(job).anyMatch(matcher::matchesAnyWordIn);
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Job>>> postings = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public JobKeywordIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Indexes the fields of {@code job}.
+     */
+    public void add(Job job) {
+        requireNonNull(job);
+        for (Field field : Field.values()) {
+            Map<String, Set<Job>> fieldPostings = postings.get(field);
+            for (String word : field.wordsOf(job)) {
+                fieldPostings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(job);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code job}, which must be the instance that was added, from the index.
+     */
+    public void remove(Job job) {
+        requireNonNull(job);
+        for (Field field : Field.values()) {
+            Map<String, Set<Job>> fieldPostings = postings.get(field);
+            for (String word : field.wordsOf(job)) {
+                Set<Job> jobs = fieldPostings.get(word);
+                if (jobs != null && jobs.remove(job) && jobs.isEmpty()) {
+                    fieldPostings.remove(word);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        postings.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns the jobs in this index that have any of {@code keywords} in any of {@code fields}, found by merging the
+     * jobs indexed under each keyword, so that no other job is looked at. The returned set compares jobs by
+     * reference, and does not change as jobs are added, edited and removed afterwards.
+     */
+    public Set<Job> findMatchingAnyKeyword(Collection<String> keywords, Collection<Field> fields) {
+        requireNonNull(keywords);
+        requireNonNull(fields);
+        List<String> words = normalize(keywords);
+        Set<Job> matching = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Field field : new HashSet<>(fields)) {
+            Map<String, Set<Job>> fieldPostings = postings.get(field);
+            for (String word : words) {
+                matching.addAll(fieldPostings.getOrDefault(word, Set.of()));
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the jobs in this index that match {@code predicate}: the jobs with any of its keywords in any field,
+     * intersected with the jobs with any of the keywords of each of its fields in that field.
+     *
+     * @see #findMatchingAnyKeyword(Collection, Collection)
+     */
+    public Set<Job> findMatching(JobContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Job> matching = predicate.getKeywords().isEmpty()
+                ? null
+                : findMatchingAnyKeyword(predicate.getKeywords(), EnumSet.allOf(Field.class));
+        for (Map.Entry<Field, List<String>> entry : predicate.getFieldKeywords().entrySet()) {
+            Set<Job> fieldMatching = findMatchingAnyKeyword(entry.getValue(), List.of(entry.getKey()));
+            if (matching == null) {
+                matching = fieldMatching;
+            } else {
+                matching.retainAll(fieldMatching);
+            }
+        }
+        // A predicate without any keywords matches no job
+        return matching == null ? Collections.newSetFromMap(new IdentityHashMap<>()) : matching;
+    }
+
+    /**
+     * Returns the lower-cased non-blank {@code keywords}, without duplicates.
+     */
+    private static List<String> normalize(Collection<String> keywords) {
+        return keywords.stream()
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
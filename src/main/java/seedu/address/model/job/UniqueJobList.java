@@ -3,8 +3,10 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,19 +16,23 @@ import seedu.address.model.job.exceptions.JobNotFoundException;
 /**
  * A list of jobs that enforces uniqueness between its elements and does not
  * allow nulls. A job is considered unique by comparing using
- * {@code Job#equals(Object)}.
+ * {@code Job#equals(Object)}. The jobs are also kept in a hash set, so that
+ * uniqueness checks do not have to scan the list, and in a {@link JobKeywordIndex},
+ * so that keyword searches do not have to split the fields of every job.
  * Supports a minimal set of list operations.
  */
 public class UniqueJobList implements Iterable<Job> {
 
     private final ObservableList<Job> internalList = FXCollections.observableArrayList();
+    private final Set<Job> jobSet = new HashSet<>();
+    private final JobKeywordIndex keywordIndex = new JobKeywordIndex();
 
     /**
      * Returns true if the list contains an equivalent job as the given argument.
      */
     public boolean contains(Job toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::equals);
+        return this.jobSet.contains(toCheck);
     }
 
     /**
@@ -38,6 +44,36 @@ public class UniqueJobList implements Iterable<Job> {
             throw new DuplicateJobException();
         }
         this.internalList.add(toAdd);
+        this.jobSet.add(toAdd);
+        this.keywordIndex.add(toAdd);
+    }
+
+    /**
+     * Adds a job to the list at {@code index}, before the job that was at that
+     * index. The job must not already exist in the list.
+     */
+    public void add(int index, Job toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateJobException();
+        }
+        this.internalList.add(index, toAdd);
+        this.jobSet.add(toAdd);
+        this.keywordIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the list.
+     * None of the jobs may already exist in the list, or appear twice in {@code toAdd}.
+     */
+    public void addAll(List<Job> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!areJobsUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateJobException();
+        }
+        this.internalList.addAll(toAdd);
+        this.jobSet.addAll(toAdd);
+        toAdd.forEach(this.keywordIndex::add);
     }
 
     /**
@@ -57,22 +93,46 @@ public class UniqueJobList implements Iterable<Job> {
             throw new DuplicateJobException();
         }
 
-        this.internalList.set(index, editedJob);
+        Job replaced = this.internalList.set(index, editedJob);
+        this.jobSet.remove(target);
+        this.jobSet.add(editedJob);
+        this.keywordIndex.remove(replaced);
+        this.keywordIndex.add(editedJob);
     }
 
     /**
-     * Removes the equivalent job from the list. The job must exist in the list.
+     * Removes the equivalent job from the list, and returns the index it was at.
+     * The job must exist in the list.
      */
-    public void remove(Job toRemove) {
+    public int remove(Job toRemove) {
         requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        int index = this.internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new JobNotFoundException();
         }
+        Job removed = this.internalList.remove(index);
+        this.jobSet.remove(toRemove);
+        this.keywordIndex.remove(removed);
+        return index;
+    }
+
+    /**
+     * Removes the jobs from {@code fromIndex}, inclusive, to {@code toIndex},
+     * exclusive, as a single change to the list.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        List<Job> removed = this.internalList.subList(fromIndex, toIndex);
+        removed.forEach(this.jobSet::remove);
+        removed.forEach(this.keywordIndex::remove);
+        this.internalList.remove(fromIndex, toIndex);
     }
 
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
         this.internalList.setAll(replacement.internalList);
+        this.jobSet.clear();
+        this.jobSet.addAll(replacement.jobSet);
+        rebuildKeywordIndex();
     }
 
     /**
@@ -85,6 +145,18 @@ public class UniqueJobList implements Iterable<Job> {
             throw new DuplicateJobException();
         }
         this.internalList.setAll(jobs);
+        this.jobSet.clear();
+        this.jobSet.addAll(jobs);
+        rebuildKeywordIndex();
+    }
+
+    /**
+     * Returns the jobs in this list that match {@code predicate}, looked up through the keyword index.
+     *
+     * @see JobKeywordIndex#findMatching(JobContainsKeywordsPredicate)
+     */
+    public Set<Job> findMatching(JobContainsKeywordsPredicate predicate) {
+        return this.keywordIndex.findMatching(predicate);
     }
 
     /**
@@ -122,17 +194,15 @@ public class UniqueJobList implements Iterable<Job> {
         return internalList.toString();
     }
 
+    private void rebuildKeywordIndex() {
+        this.keywordIndex.clear();
+        this.internalList.forEach(this.keywordIndex::add);
+    }
+
     /**
      * Returns true if {@code jobs} contains only unique jobs.
      */
     private boolean areJobsUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).equals(jobs.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new HashSet<>(jobs).size() == jobs.size();
     }
 }
@@ -3,8 +3,8 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.WordMatcher;
 import seedu.address.logic.Messages;
 
 /**
@@ -12,15 +12,23 @@ import seedu.address.logic.Messages;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final WordMatcher matcher;
 
+    /**
+     * Creates a predicate that matches persons with any of {@code keywords} in their details.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new WordMatcher(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(Messages.format(person), keyword));
+        return matcher.matchesAnyWordIn(Messages.format(person));
     }
 
     @Override
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -16,6 +17,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Storage id, kept when the person is edited
+    private final UUID id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,10 +32,20 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The person is given a new, randomly
+     * generated id.
      */
     public Person(Name name, Phone phone, Email email, Address address, School school, Degree degree, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, school, tags);
+        this(UUID.randomUUID(), name, phone, email, address, school, degree, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(UUID id, Name name, Phone phone, Email email, Address address, School school, Degree degree,
+            Set<Tag> tags) {
+        requireAllNonNull(id, name, phone, email, address, school, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -41,6 +55,14 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Returns the id that identifies this person in storage. It is not part of
+     * {@link #equals(Object)}.
+     */
+    public UUID getId() {
+        return this.id;
+    }
+
     public Name getName() {
         return this.name;
     }
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Messages;
+
+/**
+ * An inverted index from the words in the details of persons to the persons whose details contain them.
+ * A person's words are the whitespace-separated words of {@link Messages#format(Person)}, which is what
+ * {@link NameContainsKeywordsPredicate} matches keywords against. Words are compared ignoring case.
+ *
+ * Persons are indexed by reference, so a person must be removed using the same instance that was added.
+ */
+public class PersonKeywordIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Indexes the words of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the instance that was added, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Set<Person> persons = postings.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons in this index whose details contain any of {@code keywords}, found by merging the persons
+     * indexed under each keyword, so that no other person is looked at. The returned set compares persons by
+     * reference, and does not change as persons are added, edited and removed afterwards.
+     */
+    public Set<Person> findMatchingAnyKeyword(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matching = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : normalize(keywords)) {
+            matching.addAll(postings.getOrDefault(word, Set.of()));
+        }
+        return matching;
+    }
+
+    private static List<String> normalize(Collection<String> keywords) {
+        return keywords.stream()
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static Set<String> wordsOf(Person person) {
+        return new HashSet<>(StringUtil.splitWords(Messages.format(person).toLowerCase(Locale.ROOT)));
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +20,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The names of all persons in the list are also kept in a hash set, so that identity checks do not have to scan the
+ * list, and the words in their details are kept in a {@link PersonKeywordIndex}, so that keyword searches do not have
+ * to format every person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -25,13 +31,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Set<Name> names = new HashSet<>();
+    private final PersonKeywordIndex keywordIndex = new PersonKeywordIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSamePerson);
+        return this.names.contains(toCheck.getName());
     }
 
     /**
@@ -44,6 +52,38 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         this.internalList.add(toAdd);
+        this.names.add(toAdd.getName());
+        this.keywordIndex.add(toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index}, before the person that was at that index.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        this.internalList.add(index, toAdd);
+        this.names.add(toAdd.getName());
+        this.keywordIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the list.
+     * None of the persons may already exist in the list, or be the same as another person in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+        this.internalList.addAll(toAdd);
+        for (Person person : toAdd) {
+            this.names.add(person.getName());
+            this.keywordIndex.add(person);
+        }
     }
 
     /**
@@ -62,23 +102,48 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
-        this.internalList.set(index, editedPerson);
+        Person replaced = this.internalList.set(index, editedPerson);
+        this.names.remove(target.getName());
+        this.names.add(editedPerson.getName());
+        this.keywordIndex.remove(replaced);
+        this.keywordIndex.add(editedPerson);
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list, and returns the index it was at.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        int index = this.internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = this.internalList.remove(index);
+        this.names.remove(toRemove.getName());
+        this.keywordIndex.remove(removed);
+        return index;
+    }
+
+    /**
+     * Removes the persons from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, as a single change to
+     * the list.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        List<Person> removed = this.internalList.subList(fromIndex, toIndex);
+        for (Person person : removed) {
+            this.names.remove(person.getName());
+            this.keywordIndex.remove(person);
+        }
+        this.internalList.remove(fromIndex, toIndex);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         this.internalList.setAll(replacement.internalList);
+        this.names.clear();
+        this.names.addAll(replacement.names);
+        rebuildKeywordIndex();
     }
 
     /**
@@ -91,6 +156,18 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         this.internalList.setAll(persons);
+        this.names.clear();
+        persons.forEach(person -> this.names.add(person.getName()));
+        rebuildKeywordIndex();
+    }
+
+    /**
+     * Returns the persons in this list whose details contain any of {@code keywords}, ignoring case.
+     *
+     * @see PersonKeywordIndex#findMatchingAnyKeyword(java.util.Collection)
+     */
+    public Set<Person> findMatchingAnyKeyword(List<String> keywords) {
+        return this.keywordIndex.findMatchingAnyKeyword(keywords);
     }
 
     /**
@@ -128,15 +205,19 @@ public class UniquePersonList implements Iterable<Person> {
         return this.internalList.toString();
     }
 
+    private void rebuildKeywordIndex() {
+        this.keywordIndex.clear();
+        this.internalList.forEach(this.keywordIndex::add);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
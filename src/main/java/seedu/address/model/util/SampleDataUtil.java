@@ -1,6 +1,7 @@
 package seedu.address.model.util;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -96,7 +97,12 @@ public class SampleDataUtil {
         return sampleAb;
     }
 
-    public static ReadOnlyApplicationsManager getSampleApplicationsManager() {
+    /**
+     * Returns sample applications between the sample persons and jobs in {@code addressBook}.
+     * The applications refer to the persons and jobs of {@code addressBook} itself, and
+     * sample applications whose person or job is not in {@code addressBook} are left out.
+     */
+    public static ReadOnlyApplicationsManager getSampleApplicationsManager(ReadOnlyAddressBook addressBook) {
         ApplicationsManager sampleAm = new ApplicationsManager();
         Person[] samplePersons = getSamplePersons();
         Job[] sampleJobs = getSampleJobs();
@@ -127,9 +133,16 @@ public class SampleDataUtil {
                 // Bernice also applied to Google and is in round 4
                 new Application(samplePersons[1], sampleJobs[0], new ApplicationStatus(4)) };
 
-        // Add all sample applications
+        // Add all sample applications whose person and job are in the address book
         for (Application sampleApplication : sampleApplications) {
-            sampleAm.addApplication(sampleApplication);
+            Optional<Person> applicant = addressBook.getPersonList().stream()
+                    .filter(sampleApplication.getApplicant()::equals).findFirst();
+            Optional<Job> job = addressBook.getJobList().stream()
+                    .filter(sampleApplication.getJob()::equals).findFirst();
+            if (applicant.isPresent() && job.isPresent()) {
+                sampleAm.addApplication(new Application(applicant.get(), job.get(),
+                        sampleApplication.getApplicationStatus()));
+            }
         }
 
         return sampleAm;
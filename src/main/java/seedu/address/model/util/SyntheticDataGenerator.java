@@ -0,0 +1,248 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobRounds;
+import seedu.address.model.job.JobSkills;
+import seedu.address.model.job.JobTitle;
+import seedu.address.model.job.JobType;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Degree;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.School;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books and applications managers of any size, for load testing.
+ * The data looks like that of {@link SampleDataUtil}: schools, degrees, tags, skills and jobs are drawn from lists
+ * in which earlier values are more common than later ones, as in real data.
+ * The same seed and settings always give the same data.
+ */
+public class SyntheticDataGenerator {
+
+    public static final int DEFAULT_PERSON_COUNT = 1000;
+    public static final int DEFAULT_APPLICATIONS_PER_PERSON = 3;
+    public static final int DEFAULT_MAX_ROUNDS = 5;
+
+    private static final String[] FIRST_NAMES = {"Wei Ling", "Alex", "Hui Min", "David", "Siti", "Arjun", "Bernice",
+        "Jun Jie", "Charlotte", "Irfan", "Mei Ling", "Roy", "Priya", "Ethan", "Nur Aisyah", "Marcus", "Rachel",
+        "Kumar", "Chloe", "Daniel"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Yeoh", "Koh",
+        "Teo", "Ibrahim", "Balakrishnan", "Li", "Yu", "Oliveiro", "Rahman", "Pillai", "Ong", "Chan", "Sim"};
+    private static final String[] SCHOOLS = {"NUS", "NTU", "SMU", "SUTD", "SIT", "SUSS"};
+    private static final String[] DEGREES = {"Computer Science", "Information Systems", "Business Analytics",
+        "Computer Engineering", "Mathematics", "Business", "Data Science", "Political Science"};
+    private static final String[] TAGS = {"Python", "Java", "JavaScript", "DataScience", "React", "SQL",
+        "AWSCertified", "Flutter", "Kotlin", "Clang"};
+    private static final String[] STREETS = {"Ang Mo Kio", "Tampines", "Bedok", "Jurong West", "Serangoon Gardens",
+        "Geylang", "Clementi", "Aljunied"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "u.nus.edu", "e.ntu.edu.sg", "smu.edu.sg"};
+    private static final String[] JOB_TITLES = {"Software Engineer", "Data Scientist", "Full Stack Developer",
+        "Product Manager", "DevOps Engineer", "UX Designer", "Data Analyst", "QA Engineer"};
+    private static final String[] JOB_LEVELS = {"", "Junior ", "Senior ", "Lead "};
+    private static final String[] SKILLS = {"Java", "Python", "SQL", "React", "AWS", "Spring Boot", "Kubernetes",
+        "TensorFlow", "Figma", "Node.js", "CI/CD", "Agile", "MongoDB", "User Research"};
+    private static final JobType[] JOB_TYPES = {JobType.FULL_TIME, JobType.INTERN, JobType.PART_TIME,
+        JobType.CONTRACT, JobType.FREELANCE};
+
+    private static final int MAX_TAGS = 3;
+    private static final int MIN_SKILLS = 2;
+    private static final int MAX_SKILLS = 4;
+
+    /** How strongly values near the start of a list are favoured. 1 picks values uniformly. */
+    private static final double SKEW = 2;
+
+    private final long seed;
+    private int personCount = DEFAULT_PERSON_COUNT;
+    private int jobCount = -1;
+    private int applicationsPerPerson = DEFAULT_APPLICATIONS_PER_PERSON;
+    private int maxRounds = DEFAULT_MAX_ROUNDS;
+
+    /**
+     * Creates a generator with the default settings, whose data is determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of persons to generate.
+     */
+    public SyntheticDataGenerator withPersonCount(int personCount) {
+        checkArgument(personCount >= 0, "Number of persons should not be negative");
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of jobs to generate. Defaults to one job for every ten persons.
+     */
+    public SyntheticDataGenerator withJobCount(int jobCount) {
+        checkArgument(jobCount >= 0, "Number of jobs should not be negative");
+        this.jobCount = jobCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of jobs each person applies to. Persons apply to every job if there are fewer jobs.
+     */
+    public SyntheticDataGenerator withApplicationsPerPerson(int applicationsPerPerson) {
+        checkArgument(applicationsPerPerson >= 0, "Number of applications per person should not be negative");
+        this.applicationsPerPerson = applicationsPerPerson;
+        return this;
+    }
+
+    /**
+     * Sets the largest number of rounds a job can have.
+     */
+    public SyntheticDataGenerator withMaxRounds(int maxRounds) {
+        checkArgument(maxRounds > 0, JobRounds.MESSAGE_CONSTRAINTS);
+        this.maxRounds = maxRounds;
+        return this;
+    }
+
+    public int getJobCount() {
+        return jobCount >= 0 ? jobCount : Math.max(applicationsPerPerson, personCount / 10);
+    }
+
+    /**
+     * Returns a new address book with the generated persons and jobs.
+     */
+    public AddressBook generateAddressBook() {
+        Random random = new Random(seed);
+        AddressBook addressBook = new AddressBook();
+
+        Map<String, Integer> names = new HashMap<>();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(generatePerson(random, names));
+        }
+
+        Map<String, Integer> jobTitles = new HashMap<>();
+        for (int i = 0, count = getJobCount(); i < count; i++) {
+            addressBook.addJob(generateJob(random, jobTitles));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a new applications manager with applications between the persons and jobs of {@code addressBook},
+     * which is usually one returned by {@link #generateAddressBook()}.
+     * Each person applies to a different set of jobs, in which popular jobs are more common. The status of each
+     * application is any of the rounds of its job.
+     */
+    public ApplicationsManager generateApplicationsManager(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Random random = new Random(~seed);
+        List<Application> applications = new ArrayList<>();
+        List<Job> jobs = addressBook.getJobList();
+        int applicationCount = Math.min(applicationsPerPerson, jobs.size());
+
+        for (Person person : addressBook.getPersonList()) {
+            Set<Integer> appliedJobs = new HashSet<>();
+            for (int i = 0; i < applicationCount; i++) {
+                // Take the next job along if the person has already applied to the one picked
+                int jobIndex = pickIndex(random, jobs.size());
+                while (!appliedJobs.add(jobIndex)) {
+                    jobIndex = (jobIndex + 1) % jobs.size();
+                }
+
+                Job job = jobs.get(jobIndex);
+                int status = random.nextInt(job.getJobRounds().jobRounds + 1);
+                applications.add(new Application(person, job, new ApplicationStatus(status)));
+            }
+        }
+
+        ApplicationsManager applicationsManager = new ApplicationsManager();
+        applicationsManager.setApplications(applications);
+        return applicationsManager;
+    }
+
+    private Person generatePerson(Random random, Map<String, Integer> names) {
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        int number = countUse(firstName + " " + lastName, names);
+        String name = number == 1 ? firstName + " " + lastName : firstName + " " + lastName + " " + number;
+
+        String emailLocalPart = (firstName + lastName).replace(" ", "").toLowerCase(Locale.ROOT)
+                + (number == 1 ? "" : number);
+        String address = String.format("Blk %d %s Street %d, #%02d-%02d", 1 + random.nextInt(999),
+                pick(random, STREETS), 1 + random.nextInt(99), 1 + random.nextInt(25), 1 + random.nextInt(99));
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = random.nextInt(MAX_TAGS + 1); i > 0; i--) {
+            tags.add(new Tag(pick(random, TAGS)));
+        }
+
+        String phone = String.valueOf(80000000 + random.nextInt(20000000));
+
+        return new Person(randomId(random), new Name(name), new Phone(phone),
+                new Email(emailLocalPart + "@" + pick(random, EMAIL_DOMAINS)), new Address(address),
+                new School(pick(random, SCHOOLS)), new Degree(pick(random, DEGREES)), tags);
+    }
+
+    private Job generateJob(Random random, Map<String, Integer> jobTitles) {
+        String jobTitle = pick(random, JOB_LEVELS) + pick(random, JOB_TITLES);
+        int number = countUse(jobTitle, jobTitles);
+        jobTitle = number == 1 ? jobTitle : jobTitle + " " + number;
+
+        List<String> skills = new ArrayList<>();
+        for (int i = MIN_SKILLS + random.nextInt(MAX_SKILLS - MIN_SKILLS + 1); i > 0; i--) {
+            String skill = pick(random, SKILLS);
+            if (!skills.contains(skill)) {
+                skills.add(skill);
+            }
+        }
+
+        return new Job(randomId(random), new JobTitle(jobTitle), new JobRounds(1 + random.nextInt(maxRounds)),
+                new JobSkills(FXCollections.observableArrayList(skills)), pick(random, JOB_TYPES));
+    }
+
+    /**
+     * Counts another use of {@code value} in {@code useCounts}, and returns the number of times it has been used.
+     * Values that have been used before are numbered to keep names and job titles unique.
+     */
+    private static int countUse(String value, Map<String, Integer> useCounts) {
+        return useCounts.merge(value, 1, Integer::sum);
+    }
+
+    /**
+     * Returns a version 4 UUID made from {@code random}, unlike {@link UUID#randomUUID()} which cannot be seeded.
+     */
+    private static UUID randomId(Random random) {
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~(0xCL << 60)) | (0x8L << 60);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[pickIndex(random, values.length)];
+    }
+
+    /**
+     * Returns an index from 0 (inclusive) to {@code size} (exclusive), favouring smaller indices.
+     */
+    private static int pickIndex(Random random, int size) {
+        return (int) (size * Math.pow(random.nextDouble(), SKEW));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the persons and jobs of an address book by their ids, so that stored
+ * applications can refer to them without embedding copies.
+ */
+class AddressBookLookup {
+
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Address book contains persons with the same id.";
+    public static final String MESSAGE_DUPLICATE_JOB_ID = "Address book contains jobs with the same id.";
+
+    private final Map<UUID, Person> personsById = new HashMap<>();
+    private final Map<UUID, Job> jobsById = new HashMap<>();
+
+    /**
+     * Creates a {@code AddressBookLookup} for the persons and jobs in {@code addressBook}.
+     *
+     * @throws IllegalValueException if two persons or two jobs share an id.
+     */
+    public AddressBookLookup(ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        requireNonNull(addressBook);
+        for (Person person : addressBook.getPersonList()) {
+            if (personsById.put(person.getId(), person) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON_ID);
+            }
+        }
+        for (Job job : addressBook.getJobList()) {
+            if (jobsById.put(job.getId(), job) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_JOB_ID);
+            }
+        }
+    }
+
+    /**
+     * Returns the person with the given id, or null if there is no such person.
+     */
+    public Person getPerson(UUID id) {
+        return personsById.get(id);
+    }
+
+    /**
+     * Returns the job with the given id, or null if there is no such job.
+     */
+    public Job getJob(UUID id) {
+        return jobsById.get(id);
+    }
+}
@@ -0,0 +1,294 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobRounds;
+import seedu.address.model.job.JobTitle;
+import seedu.address.model.job.exceptions.DuplicateSkillException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons, jobs and applications from CSV files to be added to the model in bulk.
+ * <p>
+ * The first row of a file names its columns, in any order, and every other row is converted to a person, job or
+ * application with the same checks as the data files. Rows that cannot be converted, or that are duplicates of the
+ * existing data or of an earlier row, are reported instead of stopping the import. Duplicates are found through hash
+ * sets of the existing data, so each row is checked in constant time.
+ */
+public class CsvImporter {
+
+    public static final List<String> PERSON_COLUMNS =
+            List.of("name", "phone", "email", "address", "school", "degree", "tags");
+    public static final List<String> JOB_COLUMNS = List.of("title", "rounds", "skills", "type");
+    public static final List<String> APPLICATION_COLUMNS = List.of("name", "job", "status");
+
+    /** Separates the values of columns that hold several values, such as tags and skills. */
+    public static final String VALUE_SEPARATOR = ";";
+
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NO_HEADER = "The file is empty, but should start with a row of column names.";
+    public static final String MESSAGE_MISSING_COLUMN = "The first row has no \"%1$s\" column.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields, one for each column, but found %2$d.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "A person with this name is already in the address book.";
+    public static final String MESSAGE_DUPLICATE_JOB = "This job is already in the address book.";
+    public static final String MESSAGE_DUPLICATE_APPLICATION = "This person has already applied for this job.";
+    public static final String MESSAGE_UNKNOWN_PERSON = "There is no person named %1$s in the address book.";
+    public static final String MESSAGE_UNKNOWN_JOB = "There is no job titled %1$s in the address book.";
+    public static final String MESSAGE_AMBIGUOUS_JOB = "There is more than one job titled %1$s in the address book.";
+
+    private static final Set<String> OPTIONAL_COLUMNS = Set.of("tags", "skills", "status");
+
+    /**
+     * The records read from a file, and the errors of the rows that could not be read.
+     */
+    public record Result<T>(List<T> imported, List<String> errors) {
+
+        /**
+         * Returns the number of rows read, whether or not they could be imported.
+         */
+        public int getRowCount() {
+            return imported.size() + errors.size();
+        }
+    }
+
+    /**
+     * Converts a row of a file to a model object.
+     */
+    @FunctionalInterface
+    private interface RowConverter<T> {
+        T convert(Row row) throws IllegalValueException;
+    }
+
+    private CsvImporter() {
+    } // prevents instantiation
+
+    /**
+     * Reads the persons in {@code reader} that are not already in {@code addressBook}.
+     * Tags are separated by {@value #VALUE_SEPARATOR}, and may be left out along with their column.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file has no first row, or it is missing a column.
+     */
+    public static Result<Person> importPersons(Reader reader, ReadOnlyAddressBook addressBook)
+            throws IOException, IllegalValueException {
+        requireNonNull(addressBook);
+        Set<Name> names = new HashSet<>();
+        addressBook.getPersonList().forEach(person -> names.add(person.getName()));
+
+        return importRows(reader, PERSON_COLUMNS, row -> {
+            List<JsonAdaptedTag> tags = splitValues(row.get("tags")).stream().map(JsonAdaptedTag::new).toList();
+            // Ids are kept when a person is edited, so an id derived from the name could already be in use
+            Person person = new JsonAdaptedPerson(newId(), row.get("name"), row.get("phone"), row.get("email"),
+                    row.get("address"), row.get("school"), row.get("degree"), tags).toModelType();
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            return person;
+        });
+    }
+
+    /**
+     * Reads the jobs in {@code reader} that are not already in {@code addressBook}.
+     * Skills are separated by {@value #VALUE_SEPARATOR}, and may be left out along with their column.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file has no first row, or it is missing a column.
+     */
+    public static Result<Job> importJobs(Reader reader, ReadOnlyAddressBook addressBook)
+            throws IOException, IllegalValueException {
+        requireNonNull(addressBook);
+        Set<Job> jobs = new HashSet<>(addressBook.getJobList());
+
+        return importRows(reader, JOB_COLUMNS, row -> {
+            Job job;
+            try {
+                job = new JsonAdaptedJob(newId(), row.get("title"), Integer.valueOf(row.get("rounds")),
+                        FXCollections.observableArrayList(splitValues(row.get("skills"))), row.get("type"))
+                        .toModelType();
+            } catch (NumberFormatException e) {
+                throw new IllegalValueException(JobRounds.MESSAGE_CONSTRAINTS);
+            } catch (DuplicateSkillException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+            if (!jobs.add(job)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_JOB);
+            }
+            return job;
+        });
+    }
+
+    /**
+     * Reads the applications in {@code reader}, whose applicants and jobs are the persons and jobs in
+     * {@code addressBook} with the given name and job title, and that are not already in
+     * {@code applicationsManager}.
+     * The status column may be left out, in which case the applications start at status 0.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file has no first row, or it is missing a column.
+     */
+    public static Result<Application> importApplications(Reader reader, ReadOnlyAddressBook addressBook,
+            ReadOnlyApplicationsManager applicationsManager) throws IOException, IllegalValueException {
+        requireNonNull(addressBook);
+        requireNonNull(applicationsManager);
+        Map<Name, Person> personsByName = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> personsByName.put(person.getName(), person));
+        Map<JobTitle, List<Job>> jobsByTitle = new HashMap<>();
+        addressBook.getJobList().forEach(job ->
+                jobsByTitle.computeIfAbsent(job.getJobTitle(), unused -> new ArrayList<>()).add(job));
+        Set<Map.Entry<Person, Job>> applied = new HashSet<>();
+        applicationsManager.getApplicationList().forEach(application ->
+                applied.add(Map.entry(application.getApplicant(), application.getJob())));
+
+        return importRows(reader, APPLICATION_COLUMNS, row -> {
+            Person applicant = findApplicant(personsByName, row.get("name"));
+            Job job = findJob(jobsByTitle, row.get("job"));
+
+            String status = row.get("status").isEmpty() ? "0" : row.get("status");
+            if (!ApplicationStatus.isValidApplicationStatus(status)) {
+                throw new IllegalValueException(ApplicationStatus.MESSAGE_CONSTRAINTS);
+            }
+            ApplicationStatus applicationStatus = new ApplicationStatus(status);
+            if (applicationStatus.applicationStatus > job.getJobRounds().jobRounds) {
+                throw new IllegalValueException(Application.EXCEED_ROUNDS_MESSAGE);
+            }
+
+            if (!applied.add(Map.entry(applicant, job))) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
+            }
+            return new Application(applicant, job, applicationStatus);
+        });
+    }
+
+    private static Person findApplicant(Map<Name, Person> personsByName, String name)
+            throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        Person applicant = personsByName.get(new Name(name));
+        if (applicant == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, name));
+        }
+        return applicant;
+    }
+
+    private static Job findJob(Map<JobTitle, List<Job>> jobsByTitle, String title) throws IllegalValueException {
+        if (!JobTitle.isValidJobTitle(title)) {
+            throw new IllegalValueException(JobTitle.MESSAGE_CONSTRAINTS);
+        }
+        List<Job> jobs = jobsByTitle.getOrDefault(new JobTitle(title), List.of());
+        if (jobs.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_JOB, title));
+        }
+        if (jobs.size() > 1) {
+            throw new IllegalValueException(String.format(MESSAGE_AMBIGUOUS_JOB, title));
+        }
+        return jobs.get(0);
+    }
+
+    /**
+     * Converts every row after the first row of {@code reader} with {@code converter}. Blank lines are skipped.
+     */
+    private static <T> Result<T> importRows(Reader reader, List<String> columns, RowConverter<T> converter)
+            throws IOException, IllegalValueException {
+        requireNonNull(reader);
+        CsvReader csvReader = new CsvReader(reader);
+        List<String> columnNames = csvReader.readRecord();
+        if (columnNames == null) {
+            throw new IllegalValueException(MESSAGE_NO_HEADER);
+        }
+        Map<String, Integer> columnIndexes = toColumnIndexes(columnNames, columns);
+
+        List<T> imported = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        while (true) {
+            try {
+                List<String> fields = csvReader.readRecord();
+                if (fields == null) {
+                    break;
+                }
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                if (fields.size() != columnNames.size()) {
+                    throw new IllegalValueException(
+                            String.format(MESSAGE_WRONG_FIELD_COUNT, columnNames.size(), fields.size()));
+                }
+                imported.add(converter.convert(new Row(columnIndexes, fields)));
+            } catch (IllegalValueException e) {
+                errors.add(String.format(MESSAGE_FAILED_LINE, csvReader.getLineNumber(), e.getMessage()));
+            }
+        }
+        return new Result<>(imported, errors);
+    }
+
+    /**
+     * Returns the index of each of {@code columns} in {@code columnNames}, ignoring case. Columns that are not
+     * needed are ignored.
+     *
+     * @throws IllegalValueException if a column that cannot be left out is not in {@code columnNames}.
+     */
+    private static Map<String, Integer> toColumnIndexes(List<String> columnNames, List<String> columns)
+            throws IllegalValueException {
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = 0; i < columnNames.size(); i++) {
+            String column = columnNames.get(i).trim().toLowerCase(Locale.ROOT);
+            if (columns.contains(column)) {
+                columnIndexes.putIfAbsent(column, i);
+            }
+        }
+        for (String column : columns) {
+            if (!columnIndexes.containsKey(column) && !OPTIONAL_COLUMNS.contains(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return columnIndexes;
+    }
+
+    private static List<String> splitValues(String values) {
+        return Arrays.stream(values.split(VALUE_SEPARATOR))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Returns a new random id for an imported person or job.
+     */
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * The fields of a row, looked up by column.
+     */
+    private record Row(Map<String, Integer> columnIndexes, List<String> fields) {
+
+        /**
+         * Returns the trimmed field of {@code column}, or an empty string if the file has no such column.
+         */
+        String get(String column) {
+            Integer index = columnIndexes.get(column);
+            return index == null ? "" : fields.get(index).trim();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads comma-separated values one record at a time, so that a file of any size can be read without holding it in
+ * memory.
+ * Fields may be enclosed in double quotes to contain commas, line breaks or double quotes, which are written twice
+ * inside a quoted field. Records may end with either {@code \n} or {@code \r\n}.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field starting on line %1$d is not closed";
+
+    private static final int END_OF_INPUT = -1;
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int nextLineNumber = 1;
+    private int pushedBack = END_OF_INPUT;
+    private boolean hasPushedBack;
+
+    /**
+     * Creates a {@code CsvReader} that reads records from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the line on which the record last read starts, counting from 1.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Reads the next record, or returns null if there are no more records.
+     * A blank line is read as a record with one empty field.
+     *
+     * @throws IOException if the input could not be read.
+     * @throws IllegalValueException if the input ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException, IllegalValueException {
+        int c = read();
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+        lineNumber = nextLineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == END_OF_INPUT) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNCLOSED_QUOTE, lineNumber));
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        // The quote closed the field, so the character after it is read as unquoted
+                        isQuoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    nextLineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == END_OF_INPUT) {
+                if (c == '\r') {
+                    skipLineFeed();
+                }
+                nextLineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (hasPushedBack) {
+            hasPushedBack = false;
+            return pushedBack;
+        }
+        return reader.read();
+    }
+
+    private void skipLineFeed() throws IOException {
+        int c = read();
+        if (c != '\n') {
+            pushedBack = c;
+            hasPushedBack = true;
+        }
+    }
+}
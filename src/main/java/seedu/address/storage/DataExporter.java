@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons, jobs and applications to CSV or newline-delimited JSON files, one record at a time.
+ * <p>
+ * Each record is written straight to the given writer, so that only the record being written is held in memory
+ * however many records there are. The columns of persons and jobs are those read by {@link CsvImporter}, so that
+ * exported CSV files can be imported again. Applications are written with the details of their applicant and job.
+ */
+public class DataExporter {
+
+    /**
+     * The format of an exported file, which is chosen by the extension of the file.
+     */
+    public enum Format {
+        CSV(".csv"), NDJSON(".ndjson", ".jsonl");
+
+        private final List<String> extensions;
+
+        Format(String... extensions) {
+            this.extensions = List.of(extensions);
+        }
+
+        /**
+         * Returns the format of files named {@code fileName}, or an empty {@code Optional} if the extension of the
+         * name is not that of any format.
+         */
+        public static Optional<Format> fromFileName(String fileName) {
+            String lowerCaseFileName = fileName.toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (format.extensions.stream().anyMatch(lowerCaseFileName::endsWith)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public static final List<String> APPLICATION_COLUMNS = List.of("name", "job", "status", "phone", "email",
+            "school", "degree", "rounds", "type");
+
+    /**
+     * Writes records with the same columns.
+     */
+    private interface RecordWriter {
+        /**
+         * Writes a record of {@code values}, one for each column, which are strings, integers or lists of strings.
+         */
+        void write(Object[] values) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private DataExporter() {
+    } // prevents instantiation
+
+    /**
+     * Writes {@code persons} to {@code writer} in {@code format}, and returns how many were written.
+     * The writer is flushed but not closed.
+     */
+    public static int exportPersons(Iterable<Person> persons, Format format, Writer writer) throws IOException {
+        return export(persons, CsvImporter.PERSON_COLUMNS, format, writer, person -> new Object[] {
+            person.getName().fullName, person.getPhone().value, person.getEmail().value, person.getAddress().value,
+            person.getSchool().value, person.getDegree().value,
+            person.getTags().stream().map(Tag::tagName).sorted().toList()
+        });
+    }
+
+    /**
+     * Writes {@code jobs} to {@code writer} in {@code format}, and returns how many were written.
+     * The writer is flushed but not closed.
+     */
+    public static int exportJobs(Iterable<Job> jobs, Format format, Writer writer) throws IOException {
+        return export(jobs, CsvImporter.JOB_COLUMNS, format, writer, job -> new Object[] {
+            job.getJobTitle().jobTitle(), job.getJobRounds().jobRounds, job.getJobSkills().value,
+            job.getJobType().getDisplayType()
+        });
+    }
+
+    /**
+     * Writes {@code applications} to {@code writer} in {@code format}, and returns how many were written.
+     * The writer is flushed but not closed.
+     */
+    public static int exportApplications(Iterable<Application> applications, Format format, Writer writer)
+            throws IOException {
+        return export(applications, APPLICATION_COLUMNS, format, writer, application -> {
+            Person applicant = application.getApplicant();
+            Job job = application.getJob();
+            return new Object[] {
+                applicant.getName().fullName, job.getJobTitle().jobTitle(),
+                application.getApplicationStatus().applicationStatus, applicant.getPhone().value,
+                applicant.getEmail().value, applicant.getSchool().value, applicant.getDegree().value,
+                job.getJobRounds().jobRounds, job.getJobType().getDisplayType()
+            };
+        });
+    }
+
+    private static <T> int export(Iterable<T> items, List<String> columns, Format format, Writer writer,
+            Function<T, Object[]> toValues) throws IOException {
+        requireNonNull(items);
+        requireNonNull(format);
+        requireNonNull(writer);
+        RecordWriter recordWriter = format == Format.CSV
+                ? new CsvRecordWriter(writer, columns)
+                : new NdjsonRecordWriter(writer, columns);
+        int count = 0;
+        for (T item : items) {
+            recordWriter.write(toValues.apply(item));
+            count++;
+        }
+        recordWriter.finish();
+        return count;
+    }
+
+    /**
+     * Writes records as rows of a CSV file, after a row of column names. Lists are joined by
+     * {@value CsvImporter#VALUE_SEPARATOR}.
+     */
+    private static class CsvRecordWriter implements RecordWriter {
+        private final CsvWriter csvWriter;
+        private final String[] fields;
+
+        CsvRecordWriter(Writer writer, List<String> columns) throws IOException {
+            this.csvWriter = new CsvWriter(writer);
+            this.fields = new String[columns.size()];
+            csvWriter.writeRecord(columns.toArray(fields));
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                fields[i] = values[i] instanceof List<?> list
+                        ? list.stream().map(Object::toString).collect(Collectors.joining(CsvImporter.VALUE_SEPARATOR))
+                        : values[i].toString();
+            }
+            csvWriter.writeRecord(fields);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            csvWriter.flush();
+        }
+    }
+
+    /**
+     * Writes records as JSON objects keyed by column, one on each line.
+     */
+    private static class NdjsonRecordWriter implements RecordWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+
+        NdjsonRecordWriter(Writer writer, List<String> columns) throws IOException {
+            this.generator = JsonUtil.createGenerator(writer);
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                if (values[i] instanceof Integer number) {
+                    generator.writeNumber(number);
+                } else if (values[i] instanceof List<?> list) {
+                    generator.writeStartArray();
+                    for (Object element : list) {
+                        generator.writeString(element.toString());
+                    }
+                    generator.writeEndArray();
+                } else {
+                    generator.writeString(values[i].toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
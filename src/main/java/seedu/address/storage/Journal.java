@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A JSON snapshot file together with an append-only journal of the changes made since the snapshot was written.
+ * <p>
+ * The journal is kept next to the snapshot, in a file with the same name and a {@code .journal} suffix. Its first
+ * line holds the checksum of the snapshot it belongs to, and every following line is one
+ * {@link JsonAdaptedJournalEntry}. A journal whose checksum does not match the snapshot (e.g. because the snapshot was
+ * replaced after the journal was written) is ignored.
+ */
+public class Journal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(Journal.class);
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+
+    private long snapshotChecksum;
+    private boolean isAttached;
+    private int entryCount;
+
+    /**
+     * Creates a {@code Journal} for the snapshot at {@code snapshotPath}.
+     */
+    public Journal(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        this.snapshotPath = snapshotPath;
+        this.journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns true if the journal file on disk belongs to the snapshot last read or written, so that new entries can
+     * be appended to it.
+     */
+    public boolean isAttached() {
+        return isAttached;
+    }
+
+    /**
+     * Returns the number of entries in the journal since the snapshot was last written.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Reads the snapshot file with {@code reader}, or returns {@code Optional.empty()} if it does not exist.
+     * The checksum of the snapshot is computed as it is read, so the file is only read once.
+     *
+     * @throws IOException if the snapshot could not be read.
+     * @throws IllegalValueException if {@code reader} found data constraints violated in the snapshot.
+     */
+    public <T> Optional<T> readSnapshot(StreamingJsonLoader.Reader<T> reader)
+            throws IOException, IllegalValueException {
+        requireNonNull(reader);
+        isAttached = false;
+        entryCount = 0;
+        if (!Files.exists(snapshotPath)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(StreamingJsonLoader.readFile(snapshotPath, in -> {
+            CheckedInputStream checkedIn = new CheckedInputStream(in, new CRC32());
+            T snapshot = reader.read(checkedIn);
+            checkedIn.transferTo(OutputStream.nullOutputStream());
+            snapshotChecksum = checkedIn.getChecksum().getValue();
+            return snapshot;
+        }));
+    }
+
+    /**
+     * Returns the entries journaled against the snapshot read by the last call to {@link #readSnapshot}, in
+     * the order they were appended. A torn final line, left behind by an interrupted append, is skipped.
+     *
+     * @throws DataLoadingException if the journal could not be read, or contains an entry that is not valid JSON.
+     */
+    public List<JsonAdaptedJournalEntry> readEntries() throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return entries;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (lines.isEmpty() || !isHeaderOfSnapshot(lines.get(0))) {
+            logger.warning("Journal file " + journalPath + " does not belong to " + snapshotPath + ". Ignoring it.");
+            return entries;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Invalid entry in journal file " + journalPath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Skipping incomplete last entry in journal file " + journalPath);
+            }
+        }
+
+        isAttached = true;
+        entryCount = entries.size();
+        logger.info("Read " + entryCount + " entries from journal file " + journalPath);
+        return entries;
+    }
+
+    /**
+     * Overwrites the snapshot with {@code content} and starts a new, empty journal for it.
+     *
+     * @throws IOException if there was an error writing to either file.
+     */
+    public void writeSnapshot(String content) throws IOException {
+        requireNonNull(content);
+
+        isAttached = false;
+        byte[] snapshot = content.getBytes(StandardCharsets.UTF_8);
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        FileUtil.writeToFileAtomically(snapshotPath, snapshot, true);
+
+        snapshotChecksum = checksumOf(snapshot);
+        FileUtil.writeToFile(journalPath,
+                JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(snapshotChecksum)) + System.lineSeparator());
+        isAttached = true;
+        entryCount = 0;
+    }
+
+    /**
+     * Appends {@code entries} to the journal.
+     * The journal must be attached to the current snapshot. If the append fails, the journal is detached, so that
+     * the next save rewrites the snapshot instead of appending after a partially written entry.
+     *
+     * @throws IOException if there was an error writing to the journal.
+     */
+    public void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+        assert isAttached;
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+        try {
+            FileUtil.appendToFile(journalPath, lines.toString());
+        } catch (IOException e) {
+            isAttached = false;
+            throw e;
+        }
+        entryCount += entries.size();
+    }
+
+    private boolean isHeaderOfSnapshot(String line) {
+        try {
+            JsonAdaptedJournalHeader header = JsonUtil.fromJsonString(line, JsonAdaptedJournalHeader.class);
+            return header.snapshotChecksum != null && header.snapshotChecksum == snapshotChecksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static long checksumOf(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Jackson-friendly first line of a journal, identifying the snapshot the journal belongs to.
+     */
+    private static class JsonAdaptedJournalHeader {
+        private final Long snapshotChecksum;
+
+        @JsonCreator
+        JsonAdaptedJournalHeader(@JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.exceptions.DuplicateJobException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A {@code JsonAddressBookStorage} that only appends the persons and jobs that changed to a {@link Journal} on each
+ * save, instead of rewriting the whole json file.
+ * The journal is compacted into the json file once it holds more than a given number of entries, and is replayed
+ * over the json file when the address book is read.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Journal journal;
+    private final int compactionThreshold;
+
+    /** The persons and jobs as of the last read or save, or null if they are not known. */
+    private List<Person> persistedPersons;
+    private List<Job> persistedJobs;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal once it holds more than
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        assert compactionThreshold >= 0;
+        this.journal = new Journal(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        persistedPersons = null;
+        persistedJobs = null;
+        try {
+            Optional<AddressBook> snapshot = journal.readSnapshot(StreamingJsonLoader::readAddressBook);
+            if (snapshot.isEmpty()) {
+                return Optional.empty();
+            }
+
+            AddressBook addressBook = snapshot.get();
+            List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+            List<Job> jobs = new ArrayList<>(addressBook.getJobList());
+            for (JsonAdaptedJournalEntry entry : journal.readEntries()) {
+                switch (String.valueOf(entry.getList())) {
+                case JsonAdaptedJournalEntry.PERSONS:
+                    entry.toPersonChange().applyTo(persons);
+                    break;
+                case JsonAdaptedJournalEntry.JOBS:
+                    entry.toJobChange().applyTo(jobs);
+                    break;
+                default:
+                    throw new IllegalValueException("Unknown list in journal entry: " + entry.getList());
+                }
+            }
+            addressBook.setPersons(persons);
+            addressBook.setJobs(jobs);
+
+            persistedPersons = persons;
+            persistedJobs = jobs;
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException | DuplicatePersonException | DuplicateJobException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        List<Job> jobs = addressBook.getJobList();
+        Optional<List<ListChange<Person>>> personChanges = persistedPersons == null
+                ? Optional.empty()
+                : ListChange.between(persistedPersons, persons);
+        Optional<List<ListChange<Job>>> jobChanges = persistedJobs == null
+                ? Optional.empty()
+                : ListChange.between(persistedJobs, jobs);
+
+        if (!journal.isAttached() || personChanges.isEmpty() || jobChanges.isEmpty()) {
+            compact(addressBook);
+            return;
+        }
+
+        int changeCount = personChanges.get().size() + jobChanges.get().size();
+        if (changeCount == 0) {
+            return;
+        }
+        if (journal.getEntryCount() + changeCount > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(changeCount);
+        personChanges.get().forEach(change -> entries.add(JsonAdaptedJournalEntry.ofPersonChange(change)));
+        jobChanges.get().forEach(change -> entries.add(JsonAdaptedJournalEntry.ofJobChange(change)));
+        journal.append(entries);
+
+        persistedPersons = new ArrayList<>(persons);
+        persistedJobs = new ArrayList<>(jobs);
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to the json file and empties the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal into " + getAddressBookFilePath());
+        journal.writeSnapshot(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)));
+        persistedPersons = new ArrayList<>(addressBook.getPersonList());
+        persistedJobs = new ArrayList<>(addressBook.getJobList());
+    }
+}
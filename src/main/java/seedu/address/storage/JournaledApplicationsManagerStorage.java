@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.exceptions.DuplicateApplicationException;
+
+/**
+ * A {@code JsonApplicationsManagerStorage} that only appends the applications that changed to a {@link Journal} on
+ * each save, instead of rewriting the whole json file.
+ * The journal is compacted into the json file once it holds more than a given number of entries, and is replayed
+ * over the json file when the applications manager is read.
+ */
+public class JournaledApplicationsManagerStorage extends JsonApplicationsManagerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledApplicationsManagerStorage.class);
+
+    private final Journal journal;
+    private final int compactionThreshold;
+
+    /** The applications as of the last read or save, or null if they are not known. */
+    private List<Application> persistedApplications;
+
+    public JournaledApplicationsManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledApplicationsManagerStorage} that compacts its journal once it holds more than
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledApplicationsManagerStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        assert compactionThreshold >= 0;
+        this.journal = new Journal(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(addressBook);
+        if (!filePath.equals(getApplicationsManagerFilePath())) {
+            return super.readApplicationsManager(filePath, addressBook);
+        }
+
+        persistedApplications = null;
+        try {
+            Optional<ApplicationsManager> snapshot = journal.readSnapshot(in ->
+                    StreamingJsonLoader.readApplicationsManager(in, addressBook));
+            if (snapshot.isEmpty()) {
+                return Optional.empty();
+            }
+
+            ApplicationsManager applicationsManager = snapshot.get();
+            AddressBookLookup addressBookLookup = new AddressBookLookup(addressBook);
+            List<Application> applications = new ArrayList<>(applicationsManager.getApplicationList());
+            for (JsonAdaptedJournalEntry entry : journal.readEntries()) {
+                if (!JsonAdaptedJournalEntry.APPLICATIONS.equals(entry.getList())) {
+                    throw new IllegalValueException("Unknown list in journal entry: " + entry.getList());
+                }
+                entry.toApplicationChange(addressBookLookup).applyTo(applications);
+            }
+            applicationsManager.setApplications(applications);
+
+            persistedApplications = applications;
+            return Optional.of(applicationsManager);
+        } catch (IOException | IllegalValueException | DuplicateApplicationException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager, Path filePath)
+            throws IOException {
+        requireNonNull(applicationsManager);
+        requireNonNull(filePath);
+        if (!filePath.equals(getApplicationsManagerFilePath())) {
+            super.saveApplicationsManager(applicationsManager, filePath);
+            return;
+        }
+
+        List<Application> applications = applicationsManager.getApplicationList();
+        Optional<List<ListChange<Application>>> changes = persistedApplications == null
+                ? Optional.empty()
+                : ListChange.between(persistedApplications, applications);
+
+        if (!journal.isAttached() || changes.isEmpty()) {
+            compact(applicationsManager);
+            return;
+        }
+
+        int changeCount = changes.get().size();
+        if (changeCount == 0) {
+            return;
+        }
+        if (journal.getEntryCount() + changeCount > compactionThreshold) {
+            compact(applicationsManager);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(changeCount);
+        changes.get().forEach(change -> entries.add(JsonAdaptedJournalEntry.ofApplicationChange(change)));
+        journal.append(entries);
+
+        persistedApplications = new ArrayList<>(applications);
+    }
+
+    /**
+     * Writes the whole of {@code applicationsManager} to the json file and empties the journal.
+     */
+    private void compact(ReadOnlyApplicationsManager applicationsManager) throws IOException {
+        logger.fine("Compacting journal into " + getApplicationsManagerFilePath());
+        journal.writeSnapshot(JsonUtil.toJsonString(new JsonSerializableApplicationsManager(applicationsManager)));
+        persistedApplications = new ArrayList<>(applicationsManager.getApplicationList());
+    }
+}
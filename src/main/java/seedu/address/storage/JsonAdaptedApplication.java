@@ -1,48 +1,73 @@
 package seedu.address.storage;
 
+import java.util.UUID;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.application.Application;
 import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
 
 /**
  * Jackson-friendly version of {@link Application}.
+ * The applicant and job are stored as the ids of a person and a job in the address book.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedApplication {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Application's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE_FORMAT = "Application's %s is not a valid UUID.";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Application refers to a person not in the address book.";
+    public static final String MESSAGE_UNKNOWN_JOB = "Application refers to a job not in the address book.";
+
+    private final String personId;
+    private final String jobId;
+    private final Integer applicationStatus;
 
+    // Full copies of the applicant and job, as written before persons and jobs had ids
     private final JsonAdaptedPerson applicant;
     private final JsonAdaptedJob job;
-    private final Integer applicationStatus;
 
     /**
      * Constructs a {@code JsonAdaptedApplication} with the given application
      * details.
      */
     @JsonCreator
-    public JsonAdaptedApplication(@JsonProperty("applicant") JsonAdaptedPerson applicant,
-            @JsonProperty("job") JsonAdaptedJob job, @JsonProperty("applicationStatus") Integer applicationStatus) {
+    public JsonAdaptedApplication(@JsonProperty("personId") String personId, @JsonProperty("jobId") String jobId,
+            @JsonProperty("applicationStatus") Integer applicationStatus,
+            @JsonProperty("applicant") JsonAdaptedPerson applicant, @JsonProperty("job") JsonAdaptedJob job) {
+        this.personId = personId;
+        this.jobId = jobId;
+        this.applicationStatus = applicationStatus;
         this.applicant = applicant;
         this.job = job;
-        this.applicationStatus = applicationStatus;
     }
 
     /**
      * Converts a given {@code Application} into this class for Jackson use.
      */
     public JsonAdaptedApplication(Application source) {
-        applicant = new JsonAdaptedPerson(source.getApplicant());
-        job = new JsonAdaptedJob(source.getJob());
+        personId = source.getApplicant().getId().toString();
+        jobId = source.getJob().getId().toString();
         applicationStatus = source.getApplicationStatus().applicationStatus;
+        applicant = null;
+        job = null;
     }
 
     /**
      * Converts this Jackson-friendly adapted application object into the model's
-     * {@code Application} object.
+     * {@code Application} object, taking the applicant and job from {@code addressBook}.
+     * Applications written before persons and jobs had ids are matched through the
+     * ids derived from their embedded applicant and job.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in
+     *                               the adapted application, or its applicant or job
+     *                               is not in {@code addressBook}.
      */
-    public Application toModelType() throws IllegalValueException {
+    public Application toModelType(AddressBookLookup addressBook) throws IllegalValueException {
         if (applicationStatus == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, ApplicationStatus.class.getSimpleName()));
@@ -51,6 +76,34 @@ public class JsonAdaptedApplication {
             throw new IllegalValueException(ApplicationStatus.MESSAGE_CONSTRAINTS);
         }
         final ApplicationStatus modelApplicationStatus = new ApplicationStatus(applicationStatus);
-        return new Application(applicant.toModelType(), job.toModelType(), modelApplicationStatus);
+
+        final UUID modelPersonId = personId == null && applicant != null
+                ? applicant.toModelType().getId()
+                : toId(personId, "personId");
+        final Person modelApplicant = addressBook.getPerson(modelPersonId);
+        if (modelApplicant == null) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_PERSON);
+        }
+
+        final UUID modelJobId = jobId == null && job != null
+                ? job.toModelType().getId()
+                : toId(jobId, "jobId");
+        final Job modelJob = addressBook.getJob(modelJobId);
+        if (modelJob == null) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_JOB);
+        }
+
+        return new Application(modelApplicant, modelJob, modelApplicationStatus);
+    }
+
+    private static UUID toId(String id, String fieldName) throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_ID_MESSAGE_FORMAT, fieldName));
+        }
     }
 }
@@ -1,5 +1,8 @@
 package seedu.address.storage;
 
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -17,7 +20,9 @@ import seedu.address.model.job.JobType;
 class JsonAdaptedJob {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Job's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Job's id is not a valid UUID.";
 
+    private final String id;
     private final String jobTitle;
     private final Integer jobRounds;
     private final ObservableList<String> jobSkills;
@@ -27,10 +32,12 @@ class JsonAdaptedJob {
      * Constructs a {@code JsonAdaptedJob} with the given job details.
      */
     @JsonCreator
-    public JsonAdaptedJob(@JsonProperty("jobTitle") String jobTitle,
+    public JsonAdaptedJob(@JsonProperty("id") String id,
+                          @JsonProperty("jobTitle") String jobTitle,
                           @JsonProperty("jobRounds") Integer jobRounds,
                           @JsonProperty("jobSkills") ObservableList<String> jobSkills,
                           @JsonProperty("jobType") String jobType) {
+        this.id = id;
         this.jobTitle = jobTitle;
         this.jobRounds = jobRounds;
         this.jobSkills = jobSkills;
@@ -41,6 +48,7 @@ class JsonAdaptedJob {
      * Converts a given {@code Job} into this class for Jackson use.
      */
     public JsonAdaptedJob(Job source) {
+        this.id = source.getId().toString();
         this.jobTitle = source.getJobTitle().jobTitle(); // JobTitle record class has implicit accessor.
         this.jobRounds = source.getJobRounds().jobRounds;
         this.jobSkills = source.getJobSkills().value;
@@ -50,6 +58,9 @@ class JsonAdaptedJob {
     /**
      * Converts this Jackson-friendly adapted job object into the model's
      * {@code Job} object.
+     * Data files written before jobs had ids have no {@code id} field. Such jobs are
+     * given an id derived from all of their details, which are unique within an
+     * address book, so that the same job gets the same id every time the file is read.
      *
      * @throws IllegalValueException if there were any data constraints violated in
      *                               the adapted job.
@@ -90,6 +101,18 @@ class JsonAdaptedJob {
             throw new IllegalValueException(JobType.MESSAGE_CONSTRAINTS);
         }
         final JobType modelJobType = JobType.fromDisplayType(this.jobType);
-        return new Job(modelJobTitle, modelJobRounds, modelJobSkills, modelJobType);
+        final UUID modelId;
+        if (this.id == null) {
+            String details = String.join("\n", this.jobTitle, this.jobRounds.toString(),
+                    String.join(",", this.jobSkills), this.jobType);
+            modelId = UUID.nameUUIDFromBytes(("job:" + details).getBytes(StandardCharsets.UTF_8));
+        } else {
+            try {
+                modelId = UUID.fromString(this.id);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_ID);
+            }
+        }
+        return new Job(modelId, modelJobTitle, modelJobRounds, modelJobSkills, modelJobType);
     }
 }
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link ListChange} recorded in a {@link Journal}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String PERSONS = "persons";
+    public static final String JOBS = "jobs";
+    public static final String APPLICATIONS = "applications";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an unknown operation.";
+
+    private final String list;
+    private final String operation;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedJob job;
+    private final JsonAdaptedApplication application;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("list") String list, @JsonProperty("operation") String operation,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("job") JsonAdaptedJob job, @JsonProperty("application") JsonAdaptedApplication application) {
+        this.list = list;
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+        this.job = job;
+        this.application = application;
+    }
+
+    /**
+     * Converts a given change to the person list into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry ofPersonChange(ListChange<Person> change) {
+        JsonAdaptedPerson person = change.getElement() == null ? null : new JsonAdaptedPerson(change.getElement());
+        return new JsonAdaptedJournalEntry(PERSONS, change.getType().name(), indexOf(change), person, null, null);
+    }
+
+    /**
+     * Converts a given change to the job list into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry ofJobChange(ListChange<Job> change) {
+        JsonAdaptedJob job = change.getElement() == null ? null : new JsonAdaptedJob(change.getElement());
+        return new JsonAdaptedJournalEntry(JOBS, change.getType().name(), indexOf(change), null, job, null);
+    }
+
+    /**
+     * Converts a given change to the application list into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry ofApplicationChange(ListChange<Application> change) {
+        JsonAdaptedApplication application = change.getElement() == null
+                ? null
+                : new JsonAdaptedApplication(change.getElement());
+        return new JsonAdaptedJournalEntry(APPLICATIONS, change.getType().name(), indexOf(change), null, null,
+                application);
+    }
+
+    private static Integer indexOf(ListChange<?> change) {
+        return change.getType() == ListChange.Type.ADD ? null : change.getIndex();
+    }
+
+    public String getList() {
+        return list;
+    }
+
+    /**
+     * Converts this entry into a change to the person list.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public ListChange<Person> toPersonChange() throws IllegalValueException {
+        ListChange.Type type = toModelOperation();
+        return type == ListChange.Type.DELETE
+                ? ListChange.delete(toModelIndex())
+                : toChange(type, requireElement(person, "person").toModelType());
+    }
+
+    /**
+     * Converts this entry into a change to the job list.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public ListChange<Job> toJobChange() throws IllegalValueException {
+        ListChange.Type type = toModelOperation();
+        return type == ListChange.Type.DELETE
+                ? ListChange.delete(toModelIndex())
+                : toChange(type, requireElement(job, "job").toModelType());
+    }
+
+    /**
+     * Converts this entry into a change to the application list, with applicants and jobs taken from
+     * {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public ListChange<Application> toApplicationChange(AddressBookLookup addressBook) throws IllegalValueException {
+        ListChange.Type type = toModelOperation();
+        return type == ListChange.Type.DELETE
+                ? ListChange.delete(toModelIndex())
+                : toChange(type, requireElement(application, "application").toModelType(addressBook));
+    }
+
+    private <T> ListChange<T> toChange(ListChange.Type type, T element) throws IllegalValueException {
+        return type == ListChange.Type.ADD ? ListChange.add(element) : ListChange.set(toModelIndex(), element);
+    }
+
+    private ListChange.Type toModelOperation() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        try {
+            return ListChange.Type.valueOf(operation);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_OPERATION);
+        }
+    }
+
+    private int toModelIndex() throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        return index;
+    }
+
+    private static <T> T requireElement(T element, String fieldName) throws IllegalValueException {
+        if (element == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return element;
+    }
+}
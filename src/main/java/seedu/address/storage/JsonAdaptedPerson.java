@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -24,7 +26,9 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Person's id is not a valid UUID.";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
@@ -37,10 +41,11 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("school") String school, @JsonProperty("degree") String degree,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") String id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("school") String school,
+            @JsonProperty("degree") String degree, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -56,6 +61,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().toString();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -68,6 +74,9 @@ class JsonAdaptedPerson {
     /**
      * Converts this Jackson-friendly adapted person object into the model's
      * {@code Person} object.
+     * Data files written before persons had ids have no {@code id} field. Such persons
+     * are given an id derived from their name, which is unique within an address book,
+     * so that the same person gets the same id every time the file is read.
      *
      * @throws IllegalValueException if there were any data constraints violated in
      *                               the adapted person.
@@ -120,8 +129,20 @@ class JsonAdaptedPerson {
         }
         final Degree modelDegree = new Degree(degree);
 
+        final UUID modelId;
+        if (id == null) {
+            modelId = UUID.nameUUIDFromBytes(("person:" + name).getBytes(StandardCharsets.UTF_8));
+        } else {
+            try {
+                modelId = UUID.fromString(id);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_ID);
+            }
+        }
+
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelSchool, modelDegree, modelTags);
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelSchool, modelDegree,
+                modelTags);
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,6 +13,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 
 /**
@@ -33,27 +35,32 @@ public class JsonApplicationsManagerStorage implements ApplicationsManagerStorag
     }
 
     @Override
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager() throws DataLoadingException {
-        return readApplicationsManager(filePath);
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
+        return readApplicationsManager(filePath, addressBook);
     }
 
     /**
-     * Similar to {@link #readApplicationsManager()}.
+     * Similar to {@link #readApplicationsManager(ReadOnlyAddressBook)}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(addressBook);
 
-        Optional<JsonSerializableApplicationsManager> jsonApplicationsManager = JsonUtil.readJsonFile(filePath,
-                JsonSerializableApplicationsManager.class);
-        if (!jsonApplicationsManager.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonApplicationsManager.get().toModelType());
+            return Optional.of(StreamingJsonLoader.readFile(filePath, in ->
+                    StreamingJsonLoader.readApplicationsManager(in, addressBook)));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -76,6 +83,6 @@ public class JsonApplicationsManagerStorage implements ApplicationsManagerStorag
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableApplicationsManager(applicationsManager), filePath);
+        JsonUtil.saveJsonFileWithBackup(new JsonSerializableApplicationsManager(applicationsManager), filePath);
     }
 }
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -10,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
 import seedu.address.model.application.Application;
 
@@ -47,21 +50,26 @@ class JsonSerializableApplicationsManager {
 
     /**
      * Converts this applications manager into the model's
-     * {@code ApplicationsManager} object.
+     * {@code ApplicationsManager} object, with applicants and jobs taken from
+     * {@code addressBook}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public ApplicationsManager toModelType() throws IllegalValueException {
-        ApplicationsManager applicationsManager = new ApplicationsManager();
+    public ApplicationsManager toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        AddressBookLookup addressBookLookup = new AddressBookLookup(addressBook);
+        List<Application> modelApplications = new ArrayList<>();
+        Set<Application> applicationSet = new HashSet<>();
 
         for (JsonAdaptedApplication jsonAdaptedApplication : applications) {
-            Application application = jsonAdaptedApplication.toModelType();
-            if (applicationsManager.hasApplication(application)) {
+            Application application = jsonAdaptedApplication.toModelType(addressBookLookup);
+            if (!applicationSet.add(application)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
             }
-            applicationsManager.addApplication(application);
+            modelApplications.add(application);
         }
 
+        ApplicationsManager applicationsManager = new ApplicationsManager();
+        applicationsManager.setApplications(modelApplications);
         return applicationsManager;
     }
 }
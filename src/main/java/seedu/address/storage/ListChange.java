@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Represents a single change to a list of immutable elements: appending an element, replacing the element at an
+ * index, or deleting the element at an index.
+ */
+class ListChange<T> {
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry refers to a position that does not exist.";
+
+    /**
+     * The kinds of change that can be made to a list.
+     */
+    enum Type {
+        ADD, SET, DELETE
+    }
+
+    private final Type type;
+    private final int index;
+    private final T element;
+
+    private ListChange(Type type, int index, T element) {
+        this.type = type;
+        this.index = index;
+        this.element = element;
+    }
+
+    /**
+     * Returns a change that appends {@code element} to the end of the list.
+     */
+    public static <T> ListChange<T> add(T element) {
+        requireNonNull(element);
+        return new ListChange<>(Type.ADD, -1, element);
+    }
+
+    /**
+     * Returns a change that replaces the element at {@code index} with {@code element}.
+     */
+    public static <T> ListChange<T> set(int index, T element) {
+        requireNonNull(element);
+        return new ListChange<>(Type.SET, index, element);
+    }
+
+    /**
+     * Returns a change that deletes the element at {@code index}.
+     */
+    public static <T> ListChange<T> delete(int index) {
+        return new ListChange<>(Type.DELETE, index, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public T getElement() {
+        return element;
+    }
+
+    /**
+     * Applies this change to {@code list}.
+     *
+     * @throws IllegalValueException if the change refers to an index outside of {@code list}.
+     */
+    public void applyTo(List<T> list) throws IllegalValueException {
+        if (type != Type.ADD && (index < 0 || index >= list.size())) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+
+        switch (type) {
+        case ADD:
+            list.add(element);
+            break;
+        case SET:
+            list.set(index, element);
+            break;
+        default:
+            list.remove(index);
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code oldList} into {@code newList} when applied in order, or
+     * {@code Optional.empty()} if {@code newList} cannot be reached through appends, in-place replacements and
+     * deletions alone (e.g. the elements were reordered).
+     * Elements are compared by reference, so the cost of this method does not depend on the size of the elements.
+     */
+    public static <T> Optional<List<ListChange<T>>> between(List<T> oldList, List<T> newList) {
+        requireNonNull(oldList);
+        requireNonNull(newList);
+
+        // Skip the unchanged elements at both ends, which is usually all but one or two of them.
+        int start = 0;
+        int oldEnd = oldList.size();
+        int newEnd = newList.size();
+        while (start < oldEnd && start < newEnd && oldList.get(start) == newList.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && oldList.get(oldEnd - 1) == newList.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<ListChange<T>> changes = new ArrayList<>();
+        if (start == oldEnd && start == newEnd) {
+            return Optional.of(changes);
+        }
+
+        Set<T> oldElements = identitySetOf(oldList.subList(start, oldEnd));
+        Set<T> newElements = identitySetOf(newList.subList(start, newEnd));
+        int oldIndex = start;
+        int newIndex = start;
+        int position = start;
+        while (oldIndex < oldEnd && newIndex < newEnd) {
+            T oldElement = oldList.get(oldIndex);
+            T newElement = newList.get(newIndex);
+            boolean isOldElementKept = newElements.contains(oldElement);
+            if (oldElement == newElement) {
+                oldIndex++;
+                newIndex++;
+                position++;
+            } else if (!isOldElementKept && !oldElements.contains(newElement)) {
+                changes.add(set(position, newElement));
+                oldIndex++;
+                newIndex++;
+                position++;
+            } else if (!isOldElementKept) {
+                changes.add(delete(position));
+                oldIndex++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        for (; oldIndex < oldEnd; oldIndex++) {
+            changes.add(delete(position));
+        }
+
+        boolean hasUnchangedSuffix = newEnd < newList.size();
+        if (newIndex < newEnd && hasUnchangedSuffix) {
+            return Optional.empty();
+        }
+        for (; newIndex < newEnd; newIndex++) {
+            changes.add(add(newList.get(newIndex)));
+        }
+        return Optional.of(changes);
+    }
+
+    private static <T> Set<T> identitySetOf(List<T> elements) {
+        Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(elements);
+        return set;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.SmileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+
+/**
+ * A class to access ApplicationsManager data stored as a Smile (binary JSON) file on the hard disk.
+ */
+public class SmileApplicationsManagerStorage implements ApplicationsManagerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SmileApplicationsManagerStorage.class);
+
+    private final Path filePath;
+
+    public SmileApplicationsManagerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getApplicationsManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
+        return readApplicationsManager(filePath, addressBook);
+    }
+
+    /**
+     * Similar to {@link #readApplicationsManager(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(addressBook);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(StreamingJsonLoader.readFile(filePath, in -> {
+                try (JsonParser parser = SmileUtil.createParser(in)) {
+                    return StreamingJsonLoader.readApplicationsManager(parser, addressBook);
+                }
+            }));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager) throws IOException {
+        saveApplicationsManager(applicationsManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveApplicationsManager(ReadOnlyApplicationsManager)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager, Path filePath)
+            throws IOException {
+        requireNonNull(applicationsManager);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath,
+                SmileUtil.toSmileBytes(new JsonSerializableApplicationsManager(applicationsManager)), true);
+    }
+
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyApplicationsManager;
@@ -34,9 +35,33 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, Applicati
     Path getApplicationsManagerFilePath();
 
     @Override
-    Optional<ReadOnlyApplicationsManager> readApplicationsManager() throws DataLoadingException;
+    Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException;
 
     @Override
     void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager) throws IOException;
 
+    /**
+     * Returns the format that the address book and applications manager are saved in.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Saves the address book and applications manager to the given files in {@code dataFileFormat} from now on.
+     * Data saved before this call is still written to the previous files.
+     *
+     * @throws IOException if waiting for earlier saves to finish failed.
+     */
+    void setDataFiles(DataFileFormat dataFileFormat, Path addressBookFilePath, Path applicationsManagerFilePath)
+            throws IOException;
+
+    /**
+     * Blocks until all data passed to the save methods has been written.
+     * Storages that write synchronously have nothing to wait for.
+     *
+     * @throws IOException if data could not be written.
+     */
+    default void flush() throws IOException {
+    }
+
 }
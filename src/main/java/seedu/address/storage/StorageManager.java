@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -21,16 +24,56 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private ApplicationsManagerStorage applicationsManagerStorage;
     private UserPrefsStorage userPrefsStorage;
+    private DataFileFormat dataFileFormat;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage},
-     * {@code ApplicationsManagerStorage}, and {@code UserPrefStorage}.
+     * {@code ApplicationsManagerStorage}, and {@code UserPrefStorage}, which
+     * are taken to save JSON files.
      */
     public StorageManager(AddressBookStorage addressBookStorage, ApplicationsManagerStorage applicationsManagerStorage,
             UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.applicationsManagerStorage = applicationsManagerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.dataFileFormat = DataFileFormat.JSON;
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves the address book and
+     * applications manager to the given files in {@code dataFileFormat}, and the
+     * user prefs to {@code userPrefsStorage}.
+     */
+    public StorageManager(DataFileFormat dataFileFormat, Path addressBookFilePath, Path applicationsManagerFilePath,
+            UserPrefsStorage userPrefsStorage) {
+        this.userPrefsStorage = userPrefsStorage;
+        setDataFiles(dataFileFormat, addressBookFilePath, applicationsManagerFilePath);
+    }
+
+    @Override
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    @Override
+    public void setDataFiles(DataFileFormat dataFileFormat, Path addressBookFilePath,
+            Path applicationsManagerFilePath) {
+        requireNonNull(dataFileFormat);
+        requireNonNull(addressBookFilePath);
+        requireNonNull(applicationsManagerFilePath);
+        logger.info("Saving data as " + dataFileFormat + " to " + addressBookFilePath + " and "
+                + applicationsManagerFilePath);
+
+        this.dataFileFormat = dataFileFormat;
+        switch (dataFileFormat) {
+        case SMILE:
+            addressBookStorage = new SmileAddressBookStorage(addressBookFilePath);
+            applicationsManagerStorage = new SmileApplicationsManagerStorage(applicationsManagerFilePath);
+            break;
+        default:
+            addressBookStorage = new JournaledAddressBookStorage(addressBookFilePath);
+            applicationsManagerStorage = new JournaledApplicationsManagerStorage(applicationsManagerFilePath);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -86,14 +129,16 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager() throws DataLoadingException {
-        return readApplicationsManager(applicationsManagerStorage.getApplicationsManagerFilePath());
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
+        return readApplicationsManager(applicationsManagerStorage.getApplicationsManagerFilePath(), addressBook);
     }
 
     @Override
-    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return applicationsManagerStorage.readApplicationsManager(filePath);
+        return applicationsManagerStorage.readApplicationsManager(filePath, addressBook);
     }
 
     @Override
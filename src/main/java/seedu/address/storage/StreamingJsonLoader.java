@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads address books and applications managers written from a {@link JsonSerializableAddressBook} or
+ * {@link JsonSerializableApplicationsManager}, one person, job or application at a time. Both JSON and binary
+ * formats that Jackson can parse are supported.
+ * Unlike reading the whole JSON into the serializable class first, only one Jackson-friendly element is held in
+ * memory at any time, next to the model objects converted so far.
+ */
+class StreamingJsonLoader {
+
+    /**
+     * Reads a value from an input stream.
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(InputStream in) throws IOException, IllegalValueException;
+    }
+
+    private StreamingJsonLoader() {
+    } // prevents instantiation
+
+    /**
+     * Opens the file at {@code filePath} and reads it with {@code reader}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    public static <T> T readFile(Path filePath, Reader<T> reader) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (InputStream in = Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ))) {
+            return reader.read(in);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}. The stream is not closed.
+     *
+     * @throws IOException if the stream could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated in the address book.
+     */
+    public static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return readAddressBook(parser);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code parser}.
+     *
+     * @throws IOException if the data could not be read or parsed.
+     * @throws IllegalValueException if there were any data constraints violated in the address book.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        requireToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("persons".equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                requireToken(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+                    if (addressBook.hasPerson(person)) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(person);
+                }
+            } else if ("jobs".equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                requireToken(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    Job job = parser.readValueAs(JsonAdaptedJob.class).toModelType();
+                    if (addressBook.hasJob(job)) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_JOB);
+                    }
+                    addressBook.addJob(job);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads an applications manager from {@code in}, with applicants and jobs taken from {@code addressBook}.
+     * The stream is not closed.
+     *
+     * @throws IOException if the stream could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated in the applications manager.
+     */
+    public static ApplicationsManager readApplicationsManager(InputStream in, ReadOnlyAddressBook addressBook)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return readApplicationsManager(parser, addressBook);
+        }
+    }
+
+    /**
+     * Reads an applications manager from {@code parser}, with applicants and jobs taken from {@code addressBook}.
+     *
+     * @throws IOException if the data could not be read or parsed.
+     * @throws IllegalValueException if there were any data constraints violated in the applications manager.
+     */
+    public static ApplicationsManager readApplicationsManager(JsonParser parser, ReadOnlyAddressBook addressBook)
+            throws IOException, IllegalValueException {
+        AddressBookLookup addressBookLookup = new AddressBookLookup(addressBook);
+        List<Application> applications = new ArrayList<>();
+        Set<Application> applicationSet = new HashSet<>();
+        requireToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("applications".equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                requireToken(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    Application application = parser.readValueAs(JsonAdaptedApplication.class)
+                            .toModelType(addressBookLookup);
+                    if (!applicationSet.add(application)) {
+                        throw new IllegalValueException(
+                                JsonSerializableApplicationsManager.MESSAGE_DUPLICATE_APPLICATION);
+                    }
+                    applications.add(application);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        // Added at once, so that the indexes and summaries are built once instead of once per application
+        ApplicationsManager applicationsManager = new ApplicationsManager();
+        applicationsManager.setApplications(applications);
+        return applicationsManager;
+    }
+
+    private static void requireToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
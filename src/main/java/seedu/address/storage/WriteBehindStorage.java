@@ -0,0 +1,350 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyApplicationsManager;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.application.Application;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that writes the address book and applications manager on a background thread, so that saving
+ * does not hold up the caller.
+ * <p>
+ * Each save takes a snapshot of the data and returns immediately. Saves made while an earlier write is still waiting
+ * to start are coalesced, so a burst of commands results in a single write of the latest data. As writes happen after
+ * the save that requested them has returned, write failures are passed to the write failure handler instead of being
+ * thrown. Data that failed to be written is written again with the next save, or by {@link #flush()}.
+ * <p>
+ * Reads and user prefs are passed straight to the wrapped storage.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    // Snapshots waiting to be written. Guarded by this.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyApplicationsManager pendingApplicationsManager;
+    private boolean isWriteScheduled;
+
+    private volatile IOException lastWriteFailure;
+    private volatile Consumer<IOException> writeFailureHandler = e -> { };
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} on its own background thread.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the failures of background writes.
+     * The handler is called on the background thread.
+     */
+    public void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+        requireNonNull(writeFailureHandler);
+        this.writeFailureHandler = writeFailureHandler;
+    }
+
+    /**
+     * Blocks until all data saved so far has been written, retrying data whose last write failed.
+     *
+     * @throws IOException if the last background write failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (pendingAddressBook != null || pendingApplicationsManager != null) {
+                scheduleWrite();
+            }
+        }
+        runOnWriter(() -> null);
+
+        IOException failure = lastWriteFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public DataFileFormat getDataFileFormat() {
+        return storage.getDataFileFormat();
+    }
+
+    /**
+     * Switches the wrapped storage to the given files on the background thread, after the writes scheduled so far,
+     * and waits for the switch.
+     */
+    @Override
+    public void setDataFiles(DataFileFormat dataFileFormat, Path addressBookFilePath,
+            Path applicationsManagerFilePath) throws IOException {
+        runOnWriter(() -> {
+            storage.setDataFiles(dataFileFormat, addressBookFilePath, applicationsManagerFilePath);
+            return null;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} on the background thread, and waits for the write to finish.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        runOnWriter(() -> {
+            storage.saveAddressBook(snapshot, filePath);
+            return null;
+        });
+    }
+
+    // ================ ApplicationsManager methods ==============================
+
+    @Override
+    public Path getApplicationsManagerFilePath() {
+        return storage.getApplicationsManagerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
+        return storage.readApplicationsManager(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyApplicationsManager> readApplicationsManager(Path filePath,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return storage.readApplicationsManager(filePath, addressBook);
+    }
+
+    @Override
+    public void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager) {
+        requireNonNull(applicationsManager);
+        ApplicationsManagerSnapshot snapshot = new ApplicationsManagerSnapshot(applicationsManager);
+        synchronized (this) {
+            pendingApplicationsManager = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Writes {@code applicationsManager} to {@code filePath} on the background thread, and waits for the write to
+     * finish.
+     */
+    @Override
+    public void saveApplicationsManager(ReadOnlyApplicationsManager applicationsManager, Path filePath)
+            throws IOException {
+        requireNonNull(applicationsManager);
+        requireNonNull(filePath);
+        ApplicationsManagerSnapshot snapshot = new ApplicationsManagerSnapshot(applicationsManager);
+        runOnWriter(() -> {
+            storage.saveApplicationsManager(snapshot, filePath);
+            return null;
+        });
+    }
+
+    // ================ Background writing ==============================
+
+    /**
+     * Schedules the pending snapshots to be written, unless a write that has not started yet is already scheduled.
+     * Must be called while holding the lock on this.
+     */
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyApplicationsManager applicationsManager;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            applicationsManager = pendingApplicationsManager;
+            pendingAddressBook = null;
+            pendingApplicationsManager = null;
+            isWriteScheduled = false;
+        }
+
+        IOException failure = null;
+        if (addressBook != null) {
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                failure = e;
+                synchronized (this) {
+                    pendingAddressBook = pendingAddressBook == null ? addressBook : pendingAddressBook;
+                }
+            }
+        }
+        if (applicationsManager != null) {
+            try {
+                storage.saveApplicationsManager(applicationsManager);
+            } catch (IOException e) {
+                failure = e;
+                synchronized (this) {
+                    pendingApplicationsManager = pendingApplicationsManager == null
+                            ? applicationsManager
+                            : pendingApplicationsManager;
+                }
+            }
+        }
+
+        lastWriteFailure = failure;
+        if (failure != null) {
+            logger.warning("Failed to write data in the background: " + StringUtil.getDetails(failure));
+            writeFailureHandler.accept(failure);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the background thread after all writes scheduled so far, and waits for it to finish.
+     */
+    private void runOnWriter(Callable<Void> task) throws IOException {
+        Future<Void> result = writer.submit(task);
+        try {
+            result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be written", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * A copy of the lists of an address book, which hold immutable persons and jobs.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Job> jobs;
+        private final long version;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = copyOf(addressBook.getPersonList());
+            jobs = copyOf(addressBook.getJobList());
+            version = addressBook.getVersion();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Job> getJobList() {
+            return jobs;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * A copy of the list of an applications manager, which holds immutable applications.
+     */
+    private static class ApplicationsManagerSnapshot implements ReadOnlyApplicationsManager {
+        private final ObservableList<Application> applications;
+        private final long version;
+
+        ApplicationsManagerSnapshot(ReadOnlyApplicationsManager applicationsManager) {
+            applications = copyOf(applicationsManager.getApplicationList());
+            version = applicationsManager.getVersion();
+        }
+
+        @Override
+        public ObservableList<Application> getApplicationList() {
+            return applications;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+}
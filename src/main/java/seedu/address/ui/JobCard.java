@@ -1,14 +1,17 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.application.Application;
+import seedu.address.model.application.JobApplicationSummary;
 import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
 import seedu.address.ui.util.IconUtil;
 
 /**
@@ -18,7 +21,11 @@ public class JobCard extends UiPart<Region> {
 
     private static final String FXML = "JobListCard.fxml";
 
-    public final Job job;
+    private final List<MiniPersonCard> miniPersonCards = new ArrayList<>();
+    private final Label moreLabel = new Label();
+    private final Label noApplicantsLabel = new Label("No applications yet");
+
+    private Job job;
     // Graphic Components
     @FXML
     private HBox cardPane;
@@ -44,33 +51,64 @@ public class JobCard extends UiPart<Region> {
     private HBox applicantsPreview;
 
     /**
-     * Creates a {@code JobCard} with the given {@code Job} and index to display.
+     * Creates a {@code JobCard} that shows no job until {@link #setJob} is called.
+     * The icons and labels of the card are only created here, and the mini person cards of the applicants are
+     * created the first time they are needed, so that a card can show one job after another without being loaded
+     * again.
      */
-    public JobCard(Job job, List<Application> applications, int displayedIndex) {
+    public JobCard() {
         super(FXML);
-        this.job = job;
-        id.setText(displayedIndex + ". ");
-        jobTitle.setText(job.getJobTitle().jobTitle());
         // Job rounds with icon
         jobRoundsBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.TASKS, "white"));
-        jobRounds.setText("Rounds: " + job.getJobRounds().jobRounds);
         // Applications preview with icon
         applicationsBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.USERS, "white"));
-        this.applications.setText("Applications: " + applications.size());
-
-        // Add mini person cards for first 3 applicants
-        if (!applications.isEmpty()) {
-            applications.stream().limit(3).map(application -> new MiniPersonCard(application.getApplicant()))
-                    .forEach(miniCard -> applicantsPreview.getChildren().add(miniCard.getRoot()));
-            if (applications.size() > 3) {
-                Label moreLabel = new Label("+" + (applications.size() - 3) + " more");
-                moreLabel.getStyleClass().add("more-applications-label");
-                applicantsPreview.getChildren().add(moreLabel);
+
+        moreLabel.getStyleClass().add("more-applications-label");
+        noApplicantsLabel.getStyleClass().add("no-applications-label");
+    }
+
+    /**
+     * Creates a {@code JobCard} with the given {@code Job}, summary of its applications and index to display.
+     */
+    public JobCard(Job job, JobApplicationSummary summary, int displayedIndex) {
+        this();
+        setJob(job, summary, displayedIndex);
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    /**
+     * Shows {@code job} with the applications in {@code summary} and the index {@code displayedIndex} in this card,
+     * in place of the job shown before.
+     */
+    public void setJob(Job job, JobApplicationSummary summary, int displayedIndex) {
+        this.job = job;
+        id.setText(displayedIndex + ". ");
+        jobTitle.setText(job.getJobTitle().jobTitle());
+        jobRounds.setText("Rounds: " + job.getJobRounds().jobRounds);
+        applications.setText("Applications: " + summary.applicationCount());
+
+        // Add mini person cards for the previewed applicants
+        List<Node> preview = applicantsPreview.getChildren();
+        preview.clear();
+        if (summary.applicationCount() == 0) {
+            preview.add(noApplicantsLabel);
+            return;
+        }
+        List<Person> applicants = summary.previewApplicants();
+        for (int i = 0; i < applicants.size(); i++) {
+            if (i == miniPersonCards.size()) {
+                miniPersonCards.add(new MiniPersonCard());
             }
-        } else {
-            Label noApplicantsLabel = new Label("No applications yet");
-            noApplicantsLabel.getStyleClass().add("no-applications-label");
-            applicantsPreview.getChildren().add(noApplicantsLabel);
+            MiniPersonCard miniCard = miniPersonCards.get(i);
+            miniCard.setPerson(applicants.get(i));
+            preview.add(miniCard.getRoot());
+        }
+        if (summary.getHiddenApplicantCount() > 0) {
+            moreLabel.setText("+" + summary.getHiddenApplicantCount() + " more");
+            preview.add(moreLabel);
         }
     }
 
@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -10,14 +14,18 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
-import seedu.address.model.application.Application;
+import seedu.address.model.application.JobApplicationSummary;
 import seedu.address.model.job.Job;
 /**
  * Panel containing the list of jobs.
+ * The cards of jobs whose application summaries change are updated as the summaries change, so the panel does not
+ * have to be rebuilt after a command that changes applications.
  */
 public class JobListPanel extends UiPart<Region> {
     private static final String FXML = "JobListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(JobListPanel.class);
+    // Weakly held, so that the cells the list view discards can be garbage-collected
+    private final Set<JobListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
     private Logic logic;
     @FXML
     private ListView<Job> jobListView;
@@ -29,13 +37,33 @@ public class JobListPanel extends UiPart<Region> {
         super(FXML);
         this.logic = logic;
         jobListView.setItems(jobList);
-        jobListView.setCellFactory(listView -> new JobListViewCell());
+        jobListView.setCellFactory(listView -> {
+            JobListViewCell cell = new JobListViewCell();
+            cells.add(cell);
+            return cell;
+        });
+        logic.getJobApplicationSummaries().addListener(
+                (MapChangeListener<Job, JobApplicationSummary>) change -> refreshJob(change.getKey()));
+    }
+
+    /**
+     * Shows the current applications of {@code job} in the cards that show it. Only the cells of the list view are
+     * checked, and there are only enough of them to fill its height.
+     */
+    private void refreshJob(Job job) {
+        cells.stream()
+                .filter(cell -> !cell.isEmpty() && job.equals(cell.getItem()))
+                .forEach(JobListViewCell::showJob);
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Job} using a {@code JobCard}.
+     * Like the cells of the person list, each cell creates its card once and then shows the job it is moved to in
+     * the same card, with the application count and applicants read from the job's application summary.
      */
     class JobListViewCell extends ListCell<Job> {
+        private JobCard jobCard;
+
         @Override
         protected void updateItem(Job job, boolean empty) {
             super.updateItem(job, empty);
@@ -44,9 +72,20 @@ public class JobListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                List<Application> applications = logic.getApplicationsByJob(job);
-                setGraphic(new JobCard(job, applications, getIndex() + 1).getRoot());
+                showJob();
+                setGraphic(jobCard.getRoot());
+            }
+        }
+
+        /**
+         * Shows the job of this cell with its current applications.
+         */
+        private void showJob() {
+            if (jobCard == null) {
+                jobCard = new JobCard();
             }
+            Job job = getItem();
+            jobCard.setJob(job, logic.getJobApplicationSummary(job), getIndex() + 1);
         }
     }
 
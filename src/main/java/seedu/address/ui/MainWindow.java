@@ -116,27 +116,17 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Fills up all the placeholders of this window.
+     * Both list panels are created here and kept for as long as the window, and switching between them only changes
+     * which one is shown.
      */
     void fillInnerParts() {
-        if (isJobView) {
-            jobListPanel = new JobListPanel(logic.getFilteredJobList(), logic);
-            jobListPanelPlaceholder.getChildren().add(jobListPanel.getRoot());
-            // Hide person list completely
-            personListPanelPlaceholder.setVisible(false);
-            personListPanelPlaceholder.setManaged(false);
-            // Show job list
-            jobListPanelPlaceholder.setVisible(true);
-            jobListPanelPlaceholder.setManaged(true);
-        } else {
-            personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic);
-            personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-            // Hide job list completely
-            jobListPanelPlaceholder.setVisible(false);
-            jobListPanelPlaceholder.setManaged(false);
-            // Show person list
-            personListPanelPlaceholder.setVisible(true);
-            personListPanelPlaceholder.setManaged(true);
-        }
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic);
+        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+
+        jobListPanel = new JobListPanel(logic.getFilteredJobList(), logic);
+        jobListPanelPlaceholder.getChildren().add(jobListPanel.getRoot());
+
+        showListPanel();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -204,9 +194,17 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void toggleJobView() {
         this.isJobView = !this.isJobView;
-        personListPanelPlaceholder.getChildren().clear();
-        jobListPanelPlaceholder.getChildren().clear();
-        fillInnerParts();
+        showListPanel();
+    }
+
+    /**
+     * Shows the job list if the job view is on, or the person list otherwise, and hides the other list completely.
+     */
+    private void showListPanel() {
+        jobListPanelPlaceholder.setVisible(isJobView);
+        jobListPanelPlaceholder.setManaged(isJobView);
+        personListPanelPlaceholder.setVisible(!isJobView);
+        personListPanelPlaceholder.setManaged(!isJobView);
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -217,6 +215,15 @@ public class MainWindow extends UiPart<Stage> {
         return jobListPanel;
     }
 
+    /**
+     * Shows {@code feedback} in the result display.
+     */
+    void showFeedback(String feedback) {
+        if (resultDisplay != null) {
+            resultDisplay.setFeedbackToUser(feedback);
+        }
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -240,10 +247,6 @@ public class MainWindow extends UiPart<Stage> {
                 toggleJobView();
             }
 
-            if (commandResult.isRefreshApplications()) {
-                refreshApplicationsView();
-            }
-
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("An error occurred while executing command: " + commandText);
@@ -251,22 +254,4 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
-
-    /**
-     * Refreshes the application information displayed in the UI.
-     */
-    private void refreshApplicationsView() {
-        // Recreate panels with the latest data
-        if (isJobView) {
-            // Update the job list panel
-            jobListPanelPlaceholder.getChildren().clear();
-            jobListPanel = new JobListPanel(logic.getFilteredJobList(), logic);
-            jobListPanelPlaceholder.getChildren().add(jobListPanel.getRoot());
-        } else {
-            // Update the person list panel
-            personListPanelPlaceholder.getChildren().clear();
-            personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic);
-            personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-        }
-    }
 }
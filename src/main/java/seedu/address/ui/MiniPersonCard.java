@@ -6,6 +6,8 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.ui.util.LabelUtil;
 
 /**
  * A mini UI component that displays basic information of a {@code Person}.
@@ -22,18 +24,27 @@ public class MiniPersonCard extends UiPart<Region> {
     @FXML
     private FlowPane skills;
 
+    /**
+     * Creates a {@code MiniPersonCard} that shows no person until {@link #setPerson} is called.
+     */
+    public MiniPersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code MiniPersonCard} with the given {@code Person}.
      */
     public MiniPersonCard(Person person) {
-        super(FXML);
+        this();
+        setPerson(person);
+    }
+
+    /**
+     * Shows {@code person} in this card, in place of the person shown before.
+     */
+    public void setPerson(Person person) {
         name.setText(person.getName().toString());
         school.setText(person.getSchool().toString());
-        person.getTags().stream()
-                .forEach(skill -> {
-                    Label skillLabel = new Label(skill.tagName());
-                    skillLabel.getStyleClass().add("skill-label-small");
-                    skills.getChildren().add(skillLabel);
-                });
+        LabelUtil.setLabelTexts(skills, person.getTags().stream().map(Tag::tagName).toList(), "skill-label-small");
     }
 }
@@ -1,7 +1,6 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
-import java.util.List;
 
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import javafx.fxml.FXML;
@@ -9,10 +8,11 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.application.Application;
+import seedu.address.model.application.PersonApplicationSummary;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.ui.util.IconUtil;
+import seedu.address.ui.util.LabelUtil;
 
 /**
  * UI component that displays information of a {@code Person}.
@@ -30,8 +30,8 @@ public class PersonCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-    public final List<Application> applications; // This should be applications from person
+    private Person person;
+    private PersonApplicationSummary applicationSummary;
 
     // Graphic Components
     @FXML
@@ -74,52 +74,68 @@ public class PersonCard extends UiPart<Region> {
     private HBox applicationsBox;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to
-     * display.
+     * Creates a {@code PersonCard} that shows no person until {@link #setPerson} is called.
+     * The icons of the card are only created here, so that a card can show one person after another without
+     * being loaded again.
      */
-    public PersonCard(Person person, List<Application> applications, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
-        this.applications = applications;
-        id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
 
-        // Phone with white icon
+        // Phone, email and address with white icons
         phoneBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.PHONE, "white"));
-        phone.setText(person.getPhone().value);
-
-        // Email with white icon
         emailBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.ENVELOPE, "white"));
-        email.setText(person.getEmail().value);
-
-        // Address with white icon
         addressBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.HOME, "white"));
-        address.setText(person.getAddress().value);
 
-        // Degree with white icons (Made with AI)
+        // Degree and school with white icons (Made with AI)
         degreeBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.GRADUATION_CAP, "white"));
-        degree.setText(person.getDegree().value);
         degreeBox.getChildren().add(2, new Label("•")); // Add bullet point
         degreeBox.getChildren().add(3, IconUtil.createIcon(FontAwesomeIcon.UNIVERSITY, "white"));
 
-        // School with white icon
-        school.setText(person.getSchool().value);
-
-        // Skills with white icon
+        // Skills and applications with white icons
         skillsBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.TAGS, "white"));
+        applicationsBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.BRIEFCASE, "white"));
+    }
+
+    /**
+     * Creates a {@code PersonCard} with the given {@code Person}, summary of their
+     * applications and index to display.
+     */
+    public PersonCard(Person person, PersonApplicationSummary applicationSummary, int displayedIndex) {
+        this();
+        setPerson(person, applicationSummary, displayedIndex);
+    }
 
-        // Add tags
-        person.getTags().stream().sorted(Comparator.comparing(Tag::tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName())));
+    public Person getPerson() {
+        return person;
+    }
 
-        // Add applications
-        applicationsBox.getChildren().add(0, IconUtil.createIcon(FontAwesomeIcon.BRIEFCASE, "white"));
-        applications.stream().sorted(Comparator.comparing(Application::getApplicationStatus)).forEach(app -> {
-            String jobTitle = app.getJob().getJobTitle().toString();
-            int currentRound = app.getApplicationStatus().applicationStatus;
-            int maxRound = app.getJob().getJobRounds().jobRounds;
-            String displayText = jobTitle + "\nRound: " + currentRound + "/" + maxRound;
-            apps.getChildren().add(new Label(displayText));
-        });
+    public PersonApplicationSummary getApplicationSummary() {
+        return applicationSummary;
+    }
+
+    /**
+     * Shows {@code person} with the applications in {@code applicationSummary} and the index {@code displayedIndex}
+     * in this card, in place of the person shown before.
+     */
+    public void setPerson(Person person, PersonApplicationSummary applicationSummary, int displayedIndex) {
+        this.person = person;
+        this.applicationSummary = applicationSummary;
+        id.setText(displayedIndex + ". ");
+        name.setText(person.getName().fullName);
+        phone.setText(person.getPhone().value);
+        email.setText(person.getEmail().value);
+        address.setText(person.getAddress().value);
+        degree.setText(person.getDegree().value);
+        school.setText(person.getSchool().value);
+
+        LabelUtil.setLabelTexts(tags, person.getTags().stream().sorted(Comparator.comparing(Tag::tagName))
+                .map(Tag::tagName).toList());
+        LabelUtil.setLabelTexts(apps, applicationSummary.sortedApplications().stream()
+                .map(app -> {
+                    String jobTitle = app.getJob().getJobTitle().toString();
+                    int currentRound = app.getApplicationStatus().applicationStatus;
+                    int maxRound = app.getJob().getJobRounds().jobRounds;
+                    return jobTitle + "\nRound: " + currentRound + "/" + maxRound;
+                }).toList());
     }
 }
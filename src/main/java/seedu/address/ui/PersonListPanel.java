@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -10,17 +13,21 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
-import seedu.address.model.application.Application;
+import seedu.address.model.application.PersonApplicationSummary;
 import seedu.address.model.person.Person;
 
 
 
 /**
  * Panel containing the list of persons.
+ * The cards of persons whose application summaries change are updated as the summaries change, so the panel does
+ * not have to be rebuilt after a command that changes applications.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    // Weakly held, so that the cells the list view discards can be garbage-collected
+    private final Set<PersonListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
     private Logic logic;
     @FXML
     private ListView<Person> personListView;
@@ -32,13 +39,33 @@ public class PersonListPanel extends UiPart<Region> {
         super(FXML);
         this.logic = logic;
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.setCellFactory(listView -> {
+            PersonListViewCell cell = new PersonListViewCell();
+            cells.add(cell);
+            return cell;
+        });
+        logic.getPersonApplicationSummaries().addListener(
+                (MapChangeListener<Person, PersonApplicationSummary>) change -> refreshPerson(change.getKey()));
+    }
+
+    /**
+     * Shows the current applications of {@code person} in the cards that show them. Only the cells of the list
+     * view are checked, and there are only enough of them to fill its height.
+     */
+    private void refreshPerson(Person person) {
+        cells.stream()
+                .filter(cell -> !cell.isEmpty() && person.equals(cell.getItem()))
+                .forEach(PersonListViewCell::showPerson);
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The list view only creates enough cells to fill its height, and moves them to other persons while scrolling,
+     * so each cell creates its card once and then shows the person it is moved to in the same card.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -47,9 +74,20 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                List<Application> applications = logic.getApplicationsByPerson(person);
-                setGraphic(new PersonCard(person, applications, getIndex() + 1).getRoot());
+                showPerson();
+                setGraphic(personCard.getRoot());
+            }
+        }
+
+        /**
+         * Shows the person of this cell with their current applications.
+         */
+        private void showPerson() {
+            if (personCard == null) {
+                personCard = new PersonCard();
             }
+            Person person = getItem();
+            personCard.setPerson(person, logic.getPersonApplicationSummary(person), getIndex() + 1);
         }
     }
 
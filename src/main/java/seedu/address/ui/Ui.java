@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code feedback} to the user outside of a command, e.g. when data saved in the background could not be
+     * written. Can be called from any thread.
+     */
+    void showFeedback(String feedback);
+
 }
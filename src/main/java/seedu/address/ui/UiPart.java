@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -17,6 +19,8 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    private static final Map<String, URL> FXML_FILE_URLS = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -77,12 +81,15 @@ public abstract class UiPart<T> {
 
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
+     * URLs are looked up once for each file name, as parts such as list cards are created many times.
      */
     private static URL getFxmlFileUrl(String fxmlFileName) {
         requireNonNull(fxmlFileName);
-        String fxmlFileNameWithFolder = FXML_FILE_FOLDER + fxmlFileName;
-        URL fxmlFileUrl = MainApp.class.getResource(fxmlFileNameWithFolder);
-        return requireNonNull(fxmlFileUrl);
+        return FXML_FILE_URLS.computeIfAbsent(fxmlFileName, unused -> {
+            String fxmlFileNameWithFolder = FXML_FILE_FOLDER + fxmlFileName;
+            URL fxmlFileUrl = MainApp.class.getResource(fxmlFileNameWithFolder);
+            return requireNonNull(fxmlFileUrl);
+        });
     }
 
 }
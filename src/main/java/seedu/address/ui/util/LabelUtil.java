@@ -0,0 +1,35 @@
+package seedu.address.ui.util;
+
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+/**
+ * Utility class for showing lists of texts in labels of cards that are reused for different items.
+ */
+public class LabelUtil {
+
+    /**
+     * Shows {@code texts} in the labels of {@code pane}, one text in each label. The labels already in the pane are
+     * reused, and labels are only added or removed when the number of texts changes. Added labels are given
+     * {@code styleClasses}.
+     */
+    public static void setLabelTexts(Pane pane, List<String> texts, String... styleClasses) {
+        List<Node> labels = pane.getChildren();
+        if (labels.size() > texts.size()) {
+            labels.subList(texts.size(), labels.size()).clear();
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                Label label = (Label) labels.get(i);
+                label.setText(texts.get(i));
+            } else {
+                Label label = new Label(texts.get(i));
+                label.getStyleClass().addAll(styleClasses);
+                labels.add(label);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonApplicationsManagerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AppInitializerTest {
+
+    private static final String CORRUPTED_DATA = "{ corrupted";
+
+    @TempDir
+    public Path testFolder;
+
+    private Path addressBookFilePath;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookFilePath = testFolder.resolve("addressbook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonApplicationsManagerStorage(testFolder.resolve("applications.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void initModelManager_corruptedFileWithValidBackup_restoredFromBackup() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.copy(addressBookFilePath, FileUtil.getBackupPath(addressBookFilePath));
+        FileUtil.writeToFile(addressBookFilePath, CORRUPTED_DATA);
+
+        Model model = AppInitializer.initModelManager(storage, new UserPrefs());
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().orElseThrow()));
+    }
+
+    @Test
+    public void initModelManager_corruptedFileAndBackup_fileLeftUnchanged() throws Exception {
+        FileUtil.writeToFile(addressBookFilePath, CORRUPTED_DATA);
+        FileUtil.writeToFile(FileUtil.getBackupPath(addressBookFilePath), "{ also corrupted");
+
+        Model model = AppInitializer.initModelManager(storage, new UserPrefs());
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(CORRUPTED_DATA, FileUtil.readFromFile(addressBookFilePath));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchMainTest {
+
+    @Test
+    public void parseOptions_validOptions_success() {
+        assertEquals(Map.of("--script", "commands.txt", "--save-every", "100"),
+                BatchMain.parseOptions("--script", "commands.txt", "--save-every", "100"));
+        assertEquals(Map.of(), BatchMain.parseOptions());
+    }
+
+    @Test
+    public void parseOptions_invalidOptions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> BatchMain.parseOptions("commands.txt"));
+        assertThrows(IllegalArgumentException.class, () -> BatchMain.parseOptions("--script"));
+    }
+
+    @Test
+    public void parseCommandsPerSave() {
+        assertEquals(0, BatchMain.parseCommandsPerSave(Map.of()));
+        assertEquals(50, BatchMain.parseCommandsPerSave(Map.of("--save-every", "50")));
+        assertThrows(IllegalArgumentException.class, () -> BatchMain.parseCommandsPerSave(
+                Map.of("--save-every", "-1")));
+        assertThrows(IllegalArgumentException.class, () -> BatchMain.parseCommandsPerSave(
+                Map.of("--save-every", "often")));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class DataGeneratorMainTest {
+
+    @Test
+    public void parseOptions_validOptions_success() {
+        assertEquals(Map.of("--persons", "10", "--output", "folder"),
+                DataGeneratorMain.parseOptions("--persons", "10", "--output", "folder"));
+    }
+
+    @Test
+    public void parseOptions_invalidOptions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.parseOptions("--people", "10"));
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.parseOptions("--persons"));
+    }
+
+    @Test
+    public void createGenerator_validOptions_success() {
+        AddressBook addressBook = DataGeneratorMain.createGenerator(
+                Map.of("--persons", "20", "--jobs", "4", "--seed", "9")).generateAddressBook();
+        assertEquals(new SyntheticDataGenerator(9).withPersonCount(20).withJobCount(4).generateAddressBook(),
+                addressBook);
+        assertEquals(4, addressBook.getJobList().size());
+    }
+
+    @Test
+    public void createGenerator_invalidNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.createGenerator(
+                Map.of("--persons", "many")));
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.createGenerator(
+                Map.of("--max-rounds", "0")));
+    }
+}
@@ -11,7 +11,9 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", commandMetricsEnabled=" + config.isCommandMetricsEnabled()
+                + ", commandMetricsLogIntervalSeconds=" + config.getCommandMetricsLogIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
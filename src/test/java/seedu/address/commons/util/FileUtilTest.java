@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,34 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedAndBackedUp() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        FileUtil.writeToFileAtomically(file, "new".getBytes(StandardCharsets.UTF_8), true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + FileUtil.TEMP_FILE_SUFFIX)));
+
+        // the backup is a copy of the old content, not the file itself
+        FileUtil.writeToFileAtomically(file, "newer".getBytes(StandardCharsets.UTF_8), false);
+        assertEquals("old", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void restoreBackup() throws Exception {
+        Path file = testFolder.resolve("data.json");
+
+        // no backup
+        FileUtil.writeToFile(file, "good");
+        assertFalse(FileUtil.restoreBackup(file));
+
+        // backup restored over corrupted file
+        FileUtil.writeToFileAtomically(file, "corrupted".getBytes(StandardCharsets.UTF_8), true);
+        assertTrue(FileUtil.restoreBackup(file));
+        assertEquals("good", FileUtil.readFromFile(file));
+    }
+
 }
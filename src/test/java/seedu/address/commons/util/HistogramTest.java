@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (long value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+        assertEquals(0, histogram.getPercentile(0));
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinOneEighth() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000_500, histogram.getMean());
+        assertEquals(100_000_000, histogram.getMax());
+        assertWithinOneEighth(50_000_000, histogram.getPercentile(50));
+        assertWithinOneEighth(95_000_000, histogram.getPercentile(95));
+        assertWithinOneEighth(99_000_000, histogram.getPercentile(99));
+        assertEquals(100_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_largestLong_success() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().record(-1));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(101));
+    }
+
+    private static void assertWithinOneEighth(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8, actual + " is not close to " + expected);
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_otherWhitespace_treatedAsSeparator() {
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "bbb"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u00A0bbb", "bbb")); // not matched by \s
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.containsWordIgnoreCase("aaa", "a\tb"));
+    }
+
+    //---------------- Tests for splitWords --------------------------------------
+
+    @Test
+    public void splitWords_sameAsRegexSplit() {
+        for (String sentence : new String[] {"", "   ", "abc", "  AAA   bBb \t ccc  ", "a\nb\rc\fd\u000Be"}) {
+            List<String> expected = Arrays.stream(sentence.split("\\s+")).filter(word -> !word.isEmpty()).toList();
+            assertEquals(expected, StringUtil.splitWords(sentence));
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,31 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WordMatcherTest {
+
+    @Test
+    public void constructor_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WordMatcher(List.of("abc", "  ")));
+        assertThrows(IllegalArgumentException.class, () -> new WordMatcher(List.of("aaa BBB")));
+    }
+
+    @Test
+    public void matchesAnyWordIn_validInputs_correctResult() {
+        WordMatcher matcher = new WordMatcher(List.of("Bbb", "  ccc@1  "));
+
+        assertTrue(matcher.matchesAnyWordIn("aaa bBb"));
+        assertTrue(matcher.matchesAnyWordIn("  CCC@1  "));
+        assertFalse(matcher.matchesAnyWordIn("aaa bb bbbb ccc"));
+        assertFalse(matcher.matchesAnyWordIn(""));
+
+        // no words
+        assertFalse(new WordMatcher(List.of()).matchesAnyWordIn("aaa"));
+    }
+}
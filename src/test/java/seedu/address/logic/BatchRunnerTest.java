@@ -0,0 +1,94 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.BatchRunner.Summary;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = "add n/Amy Bee p/11111111 e/amy@example.com a/Block 312, Amy Street 1"
+            + " s/NUS d/Computer Science";
+    private static final String ADD_BOB = "add n/Bob Choo p/22222222 e/bob@example.com a/Block 123, Bobby Street 3"
+            + " s/NTU d/Business";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private StorageManager storage;
+    private LogicManager logic;
+    private final List<String> failures = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(DataFileFormat.JSON, temporaryFolder.resolve("addressBook.json"),
+                temporaryFolder.resolve("applicationsManager.json"),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+        logic = new LogicManager(model, storage);
+        logic.setCommandsPerSave(0);
+    }
+
+    @Test
+    public void run_validScript_commandsExecutedAndSavedOnce() throws Exception {
+        Summary summary = run("# comment", ADD_AMY, "", "   ", ADD_BOB, "list");
+
+        assertEquals(3, summary.commandCount());
+        assertEquals(0, summary.failureCount());
+        assertTrue(failures.isEmpty());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(2, logic.getSavesPerformed());
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void run_failingCommands_restOfScriptRun() throws Exception {
+        Summary summary = run(ADD_AMY, "unknowncommand", ADD_AMY, ADD_BOB);
+
+        assertEquals(4, summary.commandCount());
+        assertEquals(2, summary.failureCount());
+        assertEquals(String.format(BatchRunner.MESSAGE_FAILED_LINE, 2, MESSAGE_UNKNOWN_COMMAND), failures.get(0));
+        assertTrue(failures.get(1).startsWith("Line 3: "));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_exitCommand_restOfScriptSkipped() throws Exception {
+        Summary summary = run(ADD_AMY, "exit", ADD_BOB);
+
+        assertEquals(2, summary.commandCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertFalse(storage.readAddressBook().get().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void summary_toString() {
+        Summary summary = new Summary(3000, 1, Duration.ofMillis(1500));
+        assertEquals(2000, summary.getCommandsPerSecond(), 0.001);
+        assertEquals("Executed 3000 commands (1 failed) in 1.500 s: 2000 commands/s", summary.toString());
+        assertEquals(0, new Summary(0, 0, Duration.ZERO).getCommandsPerSecond());
+    }
+
+    private Summary run(String... lines) throws Exception {
+        return new BatchRunner(logic).run(new BufferedReader(new StringReader(String.join("\n", lines))),
+                failures::add);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics.Metric;
+import seedu.address.logic.CommandMetrics.Recording;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void startRecording_disabled_nothingRecorded() {
+        CommandMetrics commandMetrics = new CommandMetrics(false);
+        Recording recording = commandMetrics.startRecording();
+        recording.parsed("list");
+        recording.executed();
+        recording.saved();
+        recording.finish();
+
+        assertFalse(commandMetrics.isEnabled());
+        assertNull(commandMetrics.getHistogram("list", Metric.PARSE_TIME));
+        assertEquals(CommandMetrics.MESSAGE_DISABLED, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void startRecording_enabled_recordedUnderCommandWord() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.getSummary());
+
+        Recording recording = commandMetrics.startRecording();
+        recording.parsed(" find\talex ");
+        recording.executed();
+        recording.saved();
+        recording.finish();
+
+        for (Metric metric : new Metric[] {Metric.PARSE_TIME, Metric.EXECUTE_TIME, Metric.SAVE_TIME}) {
+            assertEquals(1, commandMetrics.getHistogram("find", metric).getCount());
+        }
+        String summary = commandMetrics.getSummary();
+        assertTrue(summary.contains("find (1 runs)"));
+        assertTrue(summary.contains("execute: "));
+    }
+
+    @Test
+    public void finish_notParsed_nothingRecorded() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        commandMetrics.startRecording().finish();
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void finish_executionFailed_laterStagesNotRecorded() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        Recording recording = commandMetrics.startRecording();
+        recording.parsed("delete 1");
+        recording.finish();
+
+        assertEquals(1, commandMetrics.getHistogram("delete", Metric.PARSE_TIME).getCount());
+        assertNull(commandMetrics.getHistogram("delete", Metric.EXECUTE_TIME));
+    }
+
+    @Test
+    public void format() {
+        assertEquals("1.500 ms", Metric.EXECUTE_TIME.format(1_500_000));
+        assertEquals("2.0 KB", Metric.ALLOCATED_BYTES.format(2048));
+    }
+
+    @Test
+    public void startLogging_calledTwice_success() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        commandMetrics.startLogging(Duration.ofMinutes(1));
+        commandMetrics.startLogging(Duration.ofMinutes(1));
+        commandMetrics.stopLogging();
+        commandMetrics.stopLogging();
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -20,9 +23,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.CommandMetrics.Metric;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -33,6 +42,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonApplicationsManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SmileAddressBookStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -87,6 +97,132 @@ public class LogicManagerTest {
                 String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandFailsAfterChangingModel_changesUndoneSeparately() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                super.addPerson(person);
+                throw new IllegalStateException("dummy failure after adding");
+            }
+        };
+        LogicManager logicManager = new LogicManager(failingModel, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonApplicationsManagerStorage(temporaryFolder.resolve("applicationsManager.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+
+        assertThrows(IllegalStateException.class, () -> logicManager.execute(AddCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SCHOOL_DESC_AMY
+                + DEGREE_DESC_AMY));
+        assertTrue(failingModel.hasPerson(expectedPerson));
+
+        logicManager.execute(DeleteCommand.COMMAND_WORD + " 1");
+        logicManager.execute(UndoCommand.COMMAND_WORD);
+        assertTrue(failingModel.hasPerson(expectedPerson));
+
+        logicManager.execute(UndoCommand.COMMAND_WORD);
+        assertFalse(failingModel.hasPerson(expectedPerson));
+    }
+
+    @Test
+    public void execute_commandsWithoutChanges_savesSkipped() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+
+        // the first command always saves, as the data may not be in storage yet
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getSavesPerformed());
+        assertEquals(0, logicManager.getSavesAvoided());
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getSavesPerformed());
+        assertEquals(2, logicManager.getSavesAvoided());
+
+        // only the address book is changed by adding a person
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + SCHOOL_DESC_AMY + DEGREE_DESC_AMY);
+        assertEquals(3, logicManager.getSavesPerformed());
+        assertEquals(3, logicManager.getSavesAvoided());
+    }
+
+    @Test
+    public void execute_commandsPerSaveSet_savedEveryFewCommands() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.setCommandsPerSave(3);
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logicManager.getSavesPerformed() + logicManager.getSavesAvoided());
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getSavesPerformed());
+
+        logicManager.setCommandsPerSave(0);
+        for (int i = 0; i < 5; i++) {
+            logicManager.execute(ListCommand.COMMAND_WORD);
+        }
+        assertEquals(2, logicManager.getSavesPerformed() + logicManager.getSavesAvoided());
+        logicManager.saveChangedData();
+        assertEquals(4, logicManager.getSavesPerformed() + logicManager.getSavesAvoided());
+
+        assertThrows(IllegalArgumentException.class, () -> logicManager.setCommandsPerSave(-1));
+    }
+
+    @Test
+    public void execute_commandMetricsEnabled_stagesRecorded() throws Exception {
+        StorageManager storage = new StorageManager(DataFileFormat.JSON, temporaryFolder.resolve("addressBook.json"),
+                temporaryFolder.resolve("applicationsManager.json"),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs")));
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        LogicManager logicManager = new LogicManager(model, storage, commandMetrics);
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute("  " + ListCommand.COMMAND_WORD + " ");
+        for (Metric metric : new Metric[] {Metric.PARSE_TIME, Metric.EXECUTE_TIME, Metric.SAVE_TIME}) {
+            assertEquals(2, commandMetrics.getHistogram(ListCommand.COMMAND_WORD, metric).getCount());
+        }
+
+        // only the stages that finished are recorded for commands that fail
+        assertThrows(CommandException.class, () -> logicManager.execute("delete 9"));
+        assertEquals(1, commandMetrics.getHistogram("delete", Metric.PARSE_TIME).getCount());
+        assertNull(commandMetrics.getHistogram("delete", Metric.EXECUTE_TIME));
+
+        // commands that cannot be parsed are not recorded
+        assertThrows(ParseException.class, () -> logicManager.execute("uicfhmowqewca"));
+        assertNull(commandMetrics.getHistogram("uicfhmowqewca", Metric.PARSE_TIME));
+
+        CommandResult result = logicManager.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().contains(ListCommand.COMMAND_WORD + " (2 runs)"));
+    }
+
+    @Test
+    public void execute_commandMetricsDisabled_nothingRecorded() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertNull(logicManager.getCommandMetrics().getHistogram(ListCommand.COMMAND_WORD, Metric.PARSE_TIME));
+        assertEquals(CommandMetrics.MESSAGE_DISABLED,
+                logicManager.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_convertCommand_dataSavedInNewFormat() throws Exception {
+        model.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        model.setApplicationsManagerFilePath(temporaryFolder.resolve("applicationsManager.json"));
+        model.addPerson(AMY);
+        StorageManager storage = new StorageManager(DataFileFormat.JSON, model.getAddressBookFilePath(),
+                model.getApplicationsManagerFilePath(), new JsonUserPrefsStorage(temporaryFolder.resolve("prefs")));
+        LogicManager logicManager = new LogicManager(model, storage);
+
+        logicManager.execute(ConvertCommand.COMMAND_WORD + " smile");
+
+        Path smileFilePath = temporaryFolder.resolve("addressBook.sml");
+        assertEquals(DataFileFormat.SMILE, storage.getDataFileFormat());
+        assertEquals(smileFilePath, storage.getAddressBookFilePath());
+        assertEquals(model.getAddressBook(),
+                new SmileAddressBookStorage(smileFilePath).readAddressBook().get());
+        assertEquals(DataFileFormat.SMILE, storage.readUserPrefs().get().getDataFileFormat());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
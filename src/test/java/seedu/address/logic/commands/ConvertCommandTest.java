@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+            new UserPrefs());
+
+    @Test
+    public void execute_otherFormat_userPrefsUpdated() {
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setDataFileFormat(DataFileFormat.SMILE);
+        expectedUserPrefs.setAddressBookFilePath(Paths.get("data", "addressbook.sml"));
+        expectedUserPrefs.setApplicationsManagerFilePath(Paths.get("data", "applicationsmanager.sml"));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+                expectedUserPrefs);
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_SUCCESS, DataFileFormat.SMILE,
+                expectedUserPrefs.getAddressBookFilePath(), expectedUserPrefs.getApplicationsManagerFilePath());
+
+        assertCommandSuccess(new ConvertCommand(DataFileFormat.SMILE), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        assertCommandFailure(new ConvertCommand(DataFileFormat.JSON), model,
+                String.format(ConvertCommand.MESSAGE_ALREADY_IN_FORMAT, DataFileFormat.JSON));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertToSmileCommand = new ConvertCommand(DataFileFormat.SMILE);
+
+        assertTrue(convertToSmileCommand.equals(convertToSmileCommand));
+        assertTrue(convertToSmileCommand.equals(new ConvertCommand(DataFileFormat.SMILE)));
+        assertFalse(convertToSmileCommand.equals(null));
+        assertFalse(convertToSmileCommand.equals(1));
+        assertFalse(convertToSmileCommand.equals(new ConvertCommand(DataFileFormat.JSON)));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.storage.DataExporter;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+            new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+            new UserPrefs());
+
+    @Test
+    public void execute_filteredPersons_onlyShownPersonsExported() throws IOException {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Meier"));
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        Path file = testFolder.resolve("folder").resolve("persons.csv");
+
+        assertCommandSuccess(new ExportCommand(DataType.PERSONS, file, DataExporter.Format.CSV), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 2, "persons", file), expectedModel);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertTrue(lines.subList(1, 3).stream().allMatch(line -> line.contains("Meier")));
+    }
+
+    @Test
+    public void execute_applicationsAsNdjson_oneLinePerApplication() throws IOException {
+        Path file = testFolder.resolve("applications.ndjson");
+        int applicationCount = model.getFilteredApplicationList().size();
+
+        assertCommandSuccess(new ExportCommand(DataType.APPLICATIONS, file, DataExporter.Format.NDJSON), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, applicationCount, "applications", file), expectedModel);
+
+        assertEquals(applicationCount, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_fileIsFolder_throwsCommandException() {
+        ExportCommand exportCommand = new ExportCommand(DataType.JOBS, testFolder, DataExporter.Format.CSV);
+        assertThrows(CommandException.class, () -> exportCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("jobs.csv");
+        ExportCommand exportJobsCommand = new ExportCommand(DataType.JOBS, file, DataExporter.Format.CSV);
+
+        assertTrue(exportJobsCommand.equals(exportJobsCommand));
+        assertTrue(exportJobsCommand.equals(new ExportCommand(DataType.JOBS, file, DataExporter.Format.CSV)));
+        assertFalse(exportJobsCommand.equals(null));
+        assertFalse(exportJobsCommand.equals(new ExportCommand(DataType.PERSONS, file, DataExporter.Format.CSV)));
+        assertFalse(exportJobsCommand.equals(new ExportCommand(DataType.JOBS, file, DataExporter.Format.NDJSON)));
+    }
+}
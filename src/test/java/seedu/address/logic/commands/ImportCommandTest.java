@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvImporter;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonApplicationsManagerStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String PERSON_HEADER = "name,phone,email,address,school,degree\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+            new UserPrefs());
+
+    @Test
+    public void execute_validPersons_allAddedAtOnce() throws IOException {
+        Path file = writeFile(PERSON_HEADER
+                + "Amy Bee,85355255,amy@gmail.com,Block 1,NUS,Law\n"
+                + "Bob Choo,22222222,bob@gmail.com,Block 2,NTU,Law\n");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+                new UserPrefs());
+        expectedModel.addPersons(List.of(
+                new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("amy@gmail.com")
+                        .withAddress("Block 1").withSchool("NUS").withDegree("Law").withTags().build(),
+                new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@gmail.com")
+                        .withAddress("Block 2").withSchool("NTU").withDegree("Law").withTags().build()));
+        long expectedVersion = model.getAddressBook().getVersion() + 1;
+
+        assertCommandSuccess(new ImportCommand(DataType.PERSONS, file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, 2, "persons", file), expectedModel);
+        assertEquals(expectedVersion, model.getAddressBook().getVersion());
+    }
+
+    @Test
+    public void execute_invalidRows_reportedAndOtherRowsAdded() throws IOException {
+        StringBuilder csv = new StringBuilder(PERSON_HEADER);
+        for (int i = 0; i < ImportCommand.MAX_ERRORS_SHOWN + 2; i++) {
+            csv.append("Invalid Phone ").append(i).append(",phone,a@b.com,Block 1,NUS,Law\n");
+        }
+        csv.append("Amy Bee,85355255,amy@gmail.com,Block 1,NUS,Law\n");
+        Path file = writeFile(csv.toString());
+
+        CommandResult result = assertImportSucceeds(new ImportCommand(DataType.PERSONS, file));
+
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, ImportCommand.MAX_ERRORS_SHOWN + 3, "persons",
+                file), lines[0]);
+        assertEquals(ImportCommand.MAX_ERRORS_SHOWN + 2, lines.length);
+        assertEquals(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 2), lines[lines.length - 1]);
+        assertTrue(model.hasPerson(new PersonBuilder().withName("Amy Bee").build()));
+    }
+
+    @Test
+    public void execute_importEditedPersonAgain_savedDataReloads() throws Exception {
+        Path file = writeFile(PERSON_HEADER + "Amy Bee,85355255,amy@gmail.com,Block 1,NUS,Law\n");
+        assertImportSucceeds(new ImportCommand(DataType.PERSONS, file));
+        Person imported = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals("Amy Bee")).findFirst().orElseThrow();
+        model.setPerson(imported, new PersonBuilder(imported).withName("Amy Tan").build());
+        assertImportSucceeds(new ImportCommand(DataType.PERSONS, file));
+
+        Person reimported = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals("Amy Bee")).findFirst().orElseThrow();
+        assertNotEquals(imported.getId(), reimported.getId());
+
+        // The applications can only be read back if no two persons share an id
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        JsonApplicationsManagerStorage applicationsStorage =
+                new JsonApplicationsManagerStorage(testFolder.resolve("am.json"));
+        addressBookStorage.saveAddressBook(model.getAddressBook());
+        applicationsStorage.saveApplicationsManager(model.getApplicationsManager());
+        ReadOnlyAddressBook reloaded = addressBookStorage.readAddressBook().orElseThrow();
+        assertEquals(model.getApplicationsManager().getApplicationList(),
+                applicationsStorage.readApplicationsManager(reloaded).orElseThrow().getApplicationList());
+    }
+
+    @Test
+    public void execute_applications_applicationsRefreshed() throws IOException {
+        Path file = writeFile("name,job,status\nCarl Kurz,Software Engineer,1\n");
+
+        CommandResult result = assertImportSucceeds(new ImportCommand(DataType.APPLICATIONS, file));
+
+        assertTrue(result.isRefreshApplications());
+        assertTrue(model.hasApplication(new Application(CARL, SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(1))));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws IOException {
+        Path file = writeFile("title,rounds\nData Analyst,3\n");
+        assertCommandFailure(new ImportCommand(DataType.JOBS, file), model,
+                String.format(ImportCommand.MESSAGE_READ_FAILED, file,
+                        String.format(CsvImporter.MESSAGE_MISSING_COLUMN, "type")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(DataType.PERSONS, file), model,
+                String.format(ImportCommand.MESSAGE_READ_FAILED, file, file));
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("persons.csv");
+        ImportCommand importPersonsCommand = new ImportCommand(DataType.PERSONS, file);
+
+        assertTrue(importPersonsCommand.equals(importPersonsCommand));
+        assertTrue(importPersonsCommand.equals(new ImportCommand(DataType.PERSONS, file)));
+        assertFalse(importPersonsCommand.equals(null));
+        assertFalse(importPersonsCommand.equals(new ImportCommand(DataType.JOBS, file)));
+        assertFalse(importPersonsCommand.equals(
+                new ImportCommand(DataType.PERSONS, testFolder.resolve("other.csv"))));
+    }
+
+    private CommandResult assertImportSucceeds(ImportCommand command) {
+        try {
+            return command.execute(model);
+        } catch (Exception e) {
+            throw new AssertionError("Execution of command should not fail.", e);
+        }
+    }
+
+    private Path writeFile(String contents) throws IOException {
+        Path file = testFolder.resolve("import.csv");
+        Files.writeString(file, contents);
+        return file;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_metricsDisabled_showsDisabledMessage() {
+        assertCommandSuccess(new StatsCommand(new CommandMetrics(false)), model, CommandMetrics.MESSAGE_DISABLED,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noCommandsRecorded_showsNoCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(new CommandMetrics(true)), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics(true))));
+    }
+}
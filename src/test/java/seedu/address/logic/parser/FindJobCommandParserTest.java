@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindJobCommand;
+import seedu.address.model.job.JobContainsKeywordsPredicate;
+import seedu.address.model.job.JobKeywordIndex.Field;
+
+public class FindJobCommandParserTest {
+
+    private FindJobCommandParser parser = new FindJobCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " js/ ", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindJobCommand() {
+        FindJobCommand expectedFindJobCommand =
+                new FindJobCommand(new JobContainsKeywordsPredicate(Arrays.asList("Software", "Engineer")));
+        assertParseSuccess(parser, " \n Software \n \t Engineer  \t", expectedFindJobCommand);
+    }
+
+    @Test
+    public void parse_fieldPrefixes_returnsFieldScopedFindJobCommand() {
+        FindJobCommand expectedFindJobCommand = new FindJobCommand(new JobContainsKeywordsPredicate(
+                List.of("Engineer"), Map.of(Field.SKILLS, List.of("Python", "Java"), Field.TYPE, List.of("Intern"))));
+        assertParseSuccess(parser, " Engineer js/Python js/Java em/Intern", expectedFindJobCommand);
+    }
+
+}
@@ -0,0 +1,285 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.ALICE_MICROSOFT_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BENSON_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.DATA_SCIENTIST_MICROSOFT;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.application.JobApplicationSummary;
+import seedu.address.model.application.PersonApplicationSummary;
+import seedu.address.model.application.exceptions.InvalidApplicationStatusException;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ApplicationsManagerTest {
+
+    private final ApplicationsManager applicationsManager = getTypicalApplicationsManager();
+
+    @Test
+    public void getApplicationsByPerson_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> applicationsManager.getApplicationsByPerson(null));
+    }
+
+    @Test
+    public void getApplicationsByPerson_personWithApplications_returnsInListOrder() {
+        assertEquals(Arrays.asList(ALICE_GOOGLE_APPLICATION, ALICE_MICROSOFT_APPLICATION),
+                applicationsManager.getApplicationsByPerson(ALICE));
+    }
+
+    @Test
+    public void getApplicationsByPerson_personWithoutApplications_returnsEmptyList() {
+        assertTrue(applicationsManager.getApplicationsByPerson(GEORGE).isEmpty());
+    }
+
+    @Test
+    public void getApplicationsByJob_jobWithApplications_returnsInListOrder() {
+        assertEquals(Arrays.asList(ALICE_GOOGLE_APPLICATION, BENSON_GOOGLE_APPLICATION),
+                applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void getJobApplicationSummary_jobWithApplications_countsRoundsAndPreviewsApplicantsInListOrder() {
+        assertEquals(new JobApplicationSummary(2, List.of(0, 0, 1, 0, 1, 0), List.of(ALICE, BENSON)),
+                applicationsManager.getJobApplicationSummary(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void getJobApplicationSummary_jobWithoutApplications_returnsEmptySummary() {
+        Job job = new JobBuilder().withJobTitle("Unknown Job").build();
+        assertEquals(JobApplicationSummary.empty(job), applicationsManager.getJobApplicationSummary(job));
+    }
+
+    @Test
+    public void getPersonApplicationSummary_personWithApplications_sortsByRound() {
+        PersonApplicationSummary summary = applicationsManager.getPersonApplicationSummary(ALICE);
+        assertEquals(List.of(ALICE_MICROSOFT_APPLICATION, ALICE_GOOGLE_APPLICATION), summary.sortedApplications());
+        assertEquals(2, summary.getFurthestRound());
+    }
+
+    @Test
+    public void getPersonApplicationSummary_personWithoutApplications_returnsEmptySummary() {
+        assertEquals(PersonApplicationSummary.EMPTY, applicationsManager.getPersonApplicationSummary(GEORGE));
+    }
+
+    @Test
+    public void advanceApplication_onlyAffectedSummariesUpdated() {
+        Set<Object> changedKeys = new HashSet<>();
+        applicationsManager.getPersonApplicationSummaries().addListener(
+                (MapChangeListener<Person, PersonApplicationSummary>) change -> changedKeys.add(change.getKey()));
+        applicationsManager.getJobApplicationSummaries().addListener(
+                (MapChangeListener<Job, JobApplicationSummary>) change -> changedKeys.add(change.getKey()));
+
+        Application advanced = applicationsManager.advanceApplication(ALICE_GOOGLE_APPLICATION, 1);
+        assertEquals(Set.of(ALICE, SOFTWARE_ENGINEER_GOOGLE), changedKeys);
+        assertEquals(List.of(ALICE_MICROSOFT_APPLICATION, advanced),
+                applicationsManager.getPersonApplicationSummary(ALICE).sortedApplications());
+        assertEquals(new JobApplicationSummary(2, List.of(0, 0, 0, 1, 1, 0), List.of(ALICE, BENSON)),
+                applicationsManager.getJobApplicationSummary(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void removePersonApplications_summariesUpdated() {
+        applicationsManager.removePersonApplications(ALICE);
+        assertFalse(applicationsManager.getPersonApplicationSummaries().containsKey(ALICE));
+        assertEquals(new JobApplicationSummary(1, List.of(0, 0, 0, 0, 1, 0), List.of(BENSON)),
+                applicationsManager.getJobApplicationSummary(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void updateJob_summaryMovedToEditedJob() {
+        Job editedJob = new JobBuilder(SOFTWARE_ENGINEER_GOOGLE).withJobRounds(6).build();
+        applicationsManager.updateJob(SOFTWARE_ENGINEER_GOOGLE, editedJob);
+
+        assertFalse(applicationsManager.getJobApplicationSummaries().containsKey(SOFTWARE_ENGINEER_GOOGLE));
+        assertEquals(new JobApplicationSummary(2, List.of(0, 0, 1, 0, 1, 0, 0), List.of(ALICE, BENSON)),
+                applicationsManager.getJobApplicationSummary(editedJob));
+    }
+
+    @Test
+    public void updateJob_eachSummaryUpdatedOnce() {
+        List<Object> changedKeys = new ArrayList<>();
+        applicationsManager.getPersonApplicationSummaries().addListener(
+                (MapChangeListener<Person, PersonApplicationSummary>) change -> changedKeys.add(change.getKey()));
+        applicationsManager.getJobApplicationSummaries().addListener(
+                (MapChangeListener<Job, JobApplicationSummary>) change -> changedKeys.add(change.getKey()));
+        Job editedJob = new JobBuilder(SOFTWARE_ENGINEER_GOOGLE).withJobRounds(6).build();
+        applicationsManager.updateJob(SOFTWARE_ENGINEER_GOOGLE, editedJob);
+
+        assertEquals(4, changedKeys.size());
+        assertEquals(Set.of(ALICE, BENSON, SOFTWARE_ENGINEER_GOOGLE, editedJob), new HashSet<>(changedKeys));
+    }
+
+    @Test
+    public void getApplicationsByPerson_modifyReturnedList_doesNotAffectIndex() {
+        applicationsManager.getApplicationsByPerson(ALICE).clear();
+        assertEquals(2, applicationsManager.getApplicationsByPerson(ALICE).size());
+    }
+
+    @Test
+    public void removeApplication_indexesUpdated() {
+        applicationsManager.removeApplication(ALICE_GOOGLE_APPLICATION);
+        assertEquals(List.of(ALICE_MICROSOFT_APPLICATION), applicationsManager.getApplicationsByPerson(ALICE));
+        assertEquals(List.of(BENSON_GOOGLE_APPLICATION),
+                applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void advanceApplication_indexesUpdatedInPlace() {
+        Application advanced = applicationsManager.advanceApplication(ALICE_GOOGLE_APPLICATION, 1);
+        assertEquals(Arrays.asList(advanced, ALICE_MICROSOFT_APPLICATION),
+                applicationsManager.getApplicationsByPerson(ALICE));
+        assertEquals(Arrays.asList(advanced, BENSON_GOOGLE_APPLICATION),
+                applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void updatePerson_applicationsMovedToEditedPerson() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        applicationsManager.updatePerson(ALICE, editedAlice);
+
+        assertTrue(applicationsManager.getApplicationsByPerson(ALICE).isEmpty());
+        assertEquals(Arrays.asList(new Application(editedAlice, SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(2)),
+                new Application(editedAlice, DATA_SCIENTIST_MICROSOFT, new ApplicationStatus(1))),
+                applicationsManager.getApplicationsByPerson(editedAlice));
+    }
+
+    @Test
+    public void updateJob_applicationsMovedToEditedJob() {
+        Job editedJob = new JobBuilder(SOFTWARE_ENGINEER_GOOGLE).withJobRounds(6).build();
+        applicationsManager.updateJob(SOFTWARE_ENGINEER_GOOGLE, editedJob);
+
+        assertTrue(applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE).isEmpty());
+        assertEquals(Arrays.asList(new Application(ALICE, editedJob, new ApplicationStatus(2)),
+                new Application(BENSON, editedJob, new ApplicationStatus(4))),
+                applicationsManager.getApplicationsByJob(editedJob));
+    }
+
+    @Test
+    public void removePersonApplications_indexesUpdated() {
+        applicationsManager.removePersonApplications(ALICE);
+        assertTrue(applicationsManager.getApplicationsByPerson(ALICE).isEmpty());
+        assertEquals(List.of(BENSON_GOOGLE_APPLICATION),
+                applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void updateJob_invalidApplicationStatus_applicationsUnchanged() {
+        Job editedJob = new JobBuilder(SOFTWARE_ENGINEER_GOOGLE).withJobRounds(3).build();
+        long version = applicationsManager.getVersion();
+        assertThrows(InvalidApplicationStatusException.class, () ->
+                applicationsManager.updateJob(SOFTWARE_ENGINEER_GOOGLE, editedJob));
+
+        assertEquals(getTypicalApplicationsManager(), applicationsManager);
+        assertEquals(version, applicationsManager.getVersion());
+    }
+
+    @Test
+    public void undo_removePersonApplications_restoresIndexesAndSummaries() {
+        ModelHistory history = new ModelHistory();
+        applicationsManager.setEditRecorder(history::record);
+        JobApplicationSummary summary = applicationsManager.getJobApplicationSummary(SOFTWARE_ENGINEER_GOOGLE);
+        applicationsManager.removePersonApplications(ALICE);
+        history.commit();
+
+        history.undo();
+        assertEquals(getTypicalApplicationsManager(), applicationsManager);
+        assertEquals(List.of(ALICE_GOOGLE_APPLICATION, BENSON_GOOGLE_APPLICATION),
+                applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+        assertEquals(summary, applicationsManager.getJobApplicationSummary(SOFTWARE_ENGINEER_GOOGLE));
+
+        history.redo();
+        assertTrue(applicationsManager.getApplicationsByPerson(ALICE).isEmpty());
+        assertEquals(List.of(BENSON_GOOGLE_APPLICATION),
+                applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void undo_updatePerson_restoresApplicationsInOrder() {
+        ModelHistory history = new ModelHistory();
+        applicationsManager.setEditRecorder(history::record);
+        List<Application> aliceApplications = applicationsManager.getApplicationsByPerson(ALICE);
+        applicationsManager.updatePerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        history.commit();
+
+        history.undo();
+        assertEquals(getTypicalApplicationsManager(), applicationsManager);
+        assertEquals(aliceApplications, applicationsManager.getApplicationsByPerson(ALICE));
+    }
+
+    @Test
+    public void removeJobApplications_removedInOneListChange() {
+        List<ListChangeListener.Change<? extends Application>> changes = new ArrayList<>();
+        applicationsManager.getApplicationList().addListener(
+                (ListChangeListener<Application>) change -> changes.add(change));
+        applicationsManager.removeJobApplications(SOFTWARE_ENGINEER_GOOGLE);
+
+        assertEquals(1, changes.size());
+        assertTrue(applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE).isEmpty());
+        assertEquals(List.of(ALICE_MICROSOFT_APPLICATION), applicationsManager.getApplicationsByPerson(ALICE));
+    }
+
+    @Test
+    public void removeJobApplications_eachSummaryUpdatedOnce() {
+        List<Object> changedKeys = new ArrayList<>();
+        applicationsManager.getPersonApplicationSummaries().addListener(
+                (MapChangeListener<Person, PersonApplicationSummary>) change -> changedKeys.add(change.getKey()));
+        applicationsManager.getJobApplicationSummaries().addListener(
+                (MapChangeListener<Job, JobApplicationSummary>) change -> changedKeys.add(change.getKey()));
+        applicationsManager.removeJobApplications(SOFTWARE_ENGINEER_GOOGLE);
+
+        assertEquals(3, changedKeys.size());
+        assertEquals(Set.of(ALICE, BENSON, SOFTWARE_ENGINEER_GOOGLE), new HashSet<>(changedKeys));
+        assertFalse(applicationsManager.getJobApplicationSummaries().containsKey(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void undo_removeJobApplications_restoresIndexes() {
+        ModelHistory history = new ModelHistory();
+        applicationsManager.setEditRecorder(history::record);
+        applicationsManager.removeJobApplications(SOFTWARE_ENGINEER_GOOGLE);
+        history.commit();
+
+        history.undo();
+        assertEquals(getTypicalApplicationsManager(), applicationsManager);
+        assertEquals(List.of(ALICE_GOOGLE_APPLICATION, ALICE_MICROSOFT_APPLICATION),
+                applicationsManager.getApplicationsByPerson(ALICE));
+        assertEquals(List.of(ALICE_GOOGLE_APPLICATION, BENSON_GOOGLE_APPLICATION),
+                applicationsManager.getApplicationsByJob(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void resetData_indexesRebuilt() {
+        ApplicationsManager newData = new ApplicationsManager();
+        newData.addApplication(BENSON_GOOGLE_APPLICATION);
+        applicationsManager.resetData(newData);
+
+        assertTrue(applicationsManager.getApplicationsByPerson(ALICE).isEmpty());
+        assertEquals(List.of(BENSON_GOOGLE_APPLICATION), applicationsManager.getApplicationsByPerson(BENSON));
+        assertEquals(newData, applicationsManager);
+        assertEquals(Set.of(BENSON), applicationsManager.getPersonApplicationSummaries().keySet());
+        assertEquals(Set.of(SOFTWARE_ENGINEER_GOOGLE), applicationsManager.getJobApplicationSummaries().keySet());
+    }
+}
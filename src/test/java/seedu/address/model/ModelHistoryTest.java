@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelHistoryTest {
+
+    private final ModelHistory history = new ModelHistory();
+    private final List<Integer> values = new ArrayList<>();
+
+    @Test
+    public void constructor_nullOperation_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ModelHistory.Edit(null, () -> { }));
+        assertThrows(NullPointerException.class, () -> new ModelHistory.Edit(() -> { }, null));
+    }
+
+    @Test
+    public void commit_noEdits_nothingToUndo() {
+        history.commit();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_commitWithSeveralEdits_undoesLastEditFirst() {
+        add(1);
+        add(2);
+        history.commit();
+        add(3);
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of(1, 2), values);
+        history.undo();
+        assertEquals(List.of(), values);
+        assertFalse(history.canUndo());
+
+        history.redo();
+        assertEquals(List.of(1, 2), values);
+        history.redo();
+        assertEquals(List.of(1, 2, 3), values);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedEdits_undoesThemFirst() {
+        add(1);
+        history.commit();
+        add(2);
+        assertTrue(history.canUndo());
+
+        history.undo();
+        assertEquals(List.of(1), values);
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        add(1);
+        history.commit();
+        history.undo();
+        assertTrue(history.canRedo());
+
+        add(2);
+        assertFalse(history.canRedo());
+        history.commit();
+        assertFalse(history.canRedo());
+
+        history.undo();
+        assertEquals(List.of(), values);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_moreThanMaxUndoCount_discardsOldestCommits() {
+        int commitCount = ModelHistory.MAX_UNDO_COUNT * 2 + 1;
+        for (int i = 0; i < commitCount; i++) {
+            add(i);
+            history.commit();
+        }
+
+        for (int i = 0; i < ModelHistory.MAX_UNDO_COUNT; i++) {
+            assertTrue(history.canUndo());
+            history.undo();
+        }
+        assertFalse(history.canUndo());
+        assertEquals(commitCount - ModelHistory.MAX_UNDO_COUNT, values.size());
+
+        for (int i = 0; i < ModelHistory.MAX_UNDO_COUNT; i++) {
+            history.redo();
+        }
+        assertEquals(commitCount, values.size());
+        assertEquals(commitCount - 1, values.get(commitCount - 1));
+    }
+
+    @Test
+    public void clear_committedAndPendingEdits_nothingToUndoOrRedo() {
+        add(1);
+        history.commit();
+        add(2);
+        history.commit();
+        history.undo();
+        add(3);
+
+        history.clear();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+
+        add(4);
+        history.commit();
+        history.undo();
+        assertEquals(List.of(1, 3), values);
+        assertFalse(history.canUndo());
+    }
+
+    /**
+     * Adds {@code value} to the end of {@code values}, and records the change in {@code history}.
+     */
+    private void add(int value) {
+        values.add(value);
+        history.record(new ModelHistory.Edit(() -> values.remove(values.size() - 1), () -> values.add(value)));
+    }
+}
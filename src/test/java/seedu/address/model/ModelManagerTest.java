@@ -7,6 +7,8 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
 
 import java.nio.file.Path;
@@ -16,8 +18,10 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.job.Job;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.JobBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +98,126 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void commit_unchangedData_nothingToUndo() {
+        modelManager.commit();
+        assertFalse(modelManager.canUndo());
+
+        modelManager.resetFilteredPersonList();
+        modelManager.commit();
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void undoRedo_committedChanges_restoresData() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+
+        modelManager.undo();
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        modelManager.undo();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndo());
+
+        modelManager.redo();
+        assertTrue(modelManager.hasPerson(ALICE));
+        modelManager.redo();
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void undo_deletedPerson_restoresApplications() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+                new UserPrefs());
+        ModelManager expectedModelManager = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+                new UserPrefs());
+        modelManager.deletePerson(ALICE);
+        modelManager.commit();
+
+        modelManager.undo();
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+        assertEquals(getTypicalApplicationsManager(), modelManager.getApplicationsManager());
+        assertEquals(expectedModelManager.getPersonApplicationSummary(ALICE),
+                modelManager.getPersonApplicationSummary(ALICE));
+    }
+
+    @Test
+    public void undo_editedAndDeletedJob_restoresJobAndApplications() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), getTypicalApplicationsManager(),
+                new UserPrefs());
+        Job editedJob = new JobBuilder(SOFTWARE_ENGINEER_GOOGLE).withJobRounds(6).build();
+        modelManager.setJob(SOFTWARE_ENGINEER_GOOGLE, editedJob);
+        modelManager.deleteJob(editedJob);
+        modelManager.commit();
+
+        modelManager.undo();
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+        assertEquals(getTypicalApplicationsManager(), modelManager.getApplicationsManager());
+
+        modelManager.redo();
+        assertFalse(modelManager.hasJob(SOFTWARE_ENGINEER_GOOGLE));
+        assertFalse(modelManager.hasJob(editedJob));
+        assertTrue(modelManager.getApplicationsByJob(editedJob).isEmpty());
+    }
+
+    @Test
+    public void setAddressBook_earlierChanges_cannotBeUndone() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.commit();
+
+        assertFalse(modelManager.canUndo());
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undo_changesData_changesVersions() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        long addressBookVersion = modelManager.getAddressBook().getVersion();
+
+        modelManager.undo();
+        assertTrue(modelManager.getAddressBook().getVersion() != addressBookVersion);
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.undo();
+        assertTrue(modelManager.canRedo());
+
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+        assertFalse(modelManager.canRedo());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void commit_moreThanMaxUndoCount_discardsOldestChanges() {
+        for (int i = 0; i <= ModelHistory.MAX_UNDO_COUNT; i++) {
+            if (modelManager.hasPerson(ALICE)) {
+                modelManager.deletePerson(ALICE);
+            } else {
+                modelManager.addPerson(ALICE);
+            }
+            modelManager.commit();
+        }
+
+        for (int i = 0; i < ModelHistory.MAX_UNDO_COUNT; i++) {
+            assertTrue(modelManager.canUndo());
+            modelManager.undo();
+        }
+        assertFalse(modelManager.canUndo());
+        // The first change can no longer be undone
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -124,7 +248,7 @@ public class ModelManagerTest {
 
         // different filteredList -> returns false
         String[] keywords = ALICE.getName().fullName.split("\\s+");
-        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        modelManager.findPersonsByName(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
         assertFalse(modelManager.equals(new ModelManager(addressBook, applicationsManager, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
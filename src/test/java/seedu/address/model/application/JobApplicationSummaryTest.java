@@ -0,0 +1,57 @@
+package seedu.address.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BENSON_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class JobApplicationSummaryTest {
+
+    @Test
+    public void empty_countsNoApplicationsAtEveryRound() {
+        assertEquals(new JobApplicationSummary(0, List.of(0, 0, 0, 0, 0, 0), List.of()),
+                JobApplicationSummary.empty(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void of_moreApplicationsThanPreviewSize_previewsFirstApplicants() {
+        List<Application> applications = Stream.of(ALICE, BENSON, CARL, DANIEL)
+                .map(person -> new Application(person, SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(0)))
+                .toList();
+
+        JobApplicationSummary summary = JobApplicationSummary.of(SOFTWARE_ENGINEER_GOOGLE, applications);
+        assertEquals(new JobApplicationSummary(4, List.of(4, 0, 0, 0, 0, 0), List.of(ALICE, BENSON, CARL)),
+                summary);
+        assertEquals(1, summary.getHiddenApplicantCount());
+    }
+
+    @Test
+    public void withChange_applicationAdvanced_movesCountToNewRound() {
+        JobApplicationSummary summary = JobApplicationSummary.of(SOFTWARE_ENGINEER_GOOGLE,
+                List.of(ALICE_GOOGLE_APPLICATION, BENSON_GOOGLE_APPLICATION));
+        Application advanced = ALICE_GOOGLE_APPLICATION.advance(1);
+
+        assertEquals(JobApplicationSummary.of(SOFTWARE_ENGINEER_GOOGLE, List.of(advanced, BENSON_GOOGLE_APPLICATION)),
+                summary.withChange(ALICE_GOOGLE_APPLICATION, advanced, List.of(advanced, BENSON_GOOGLE_APPLICATION)));
+    }
+
+    @Test
+    public void withChange_applicationsAddedAndRemoved_matchesSummaryOfRemainingApplications() {
+        JobApplicationSummary summary = JobApplicationSummary.empty(SOFTWARE_ENGINEER_GOOGLE)
+                .withChange(null, ALICE_GOOGLE_APPLICATION, List.of(ALICE_GOOGLE_APPLICATION))
+                .withChange(null, BENSON_GOOGLE_APPLICATION, List.of(ALICE_GOOGLE_APPLICATION,
+                        BENSON_GOOGLE_APPLICATION))
+                .withChange(ALICE_GOOGLE_APPLICATION, null, List.of(BENSON_GOOGLE_APPLICATION));
+
+        assertEquals(JobApplicationSummary.of(SOFTWARE_ENGINEER_GOOGLE, List.of(BENSON_GOOGLE_APPLICATION)), summary);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.ALICE_MICROSOFT_APPLICATION;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonApplicationSummaryTest {
+
+    @Test
+    public void of_applicationsInAnyOrder_sortsByRound() {
+        PersonApplicationSummary summary =
+                PersonApplicationSummary.of(List.of(ALICE_GOOGLE_APPLICATION, ALICE_MICROSOFT_APPLICATION));
+
+        assertEquals(List.of(ALICE_MICROSOFT_APPLICATION, ALICE_GOOGLE_APPLICATION), summary.sortedApplications());
+        assertEquals(2, summary.getApplicationCount());
+        assertEquals(2, summary.getFurthestRound());
+    }
+
+    @Test
+    public void empty_noApplications() {
+        assertEquals(PersonApplicationSummary.EMPTY, PersonApplicationSummary.of(List.of()));
+        assertEquals(0, PersonApplicationSummary.EMPTY.getApplicationCount());
+        assertEquals(0, PersonApplicationSummary.EMPTY.getFurthestRound());
+    }
+}
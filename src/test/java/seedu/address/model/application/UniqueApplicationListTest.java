@@ -0,0 +1,118 @@
+package seedu.address.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.ALICE_MICROSOFT_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.BENSON_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.BENSON_MICROSOFT_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.CARL_APPLE_APPLICATION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.application.exceptions.ApplicationNotFoundException;
+import seedu.address.model.application.exceptions.DuplicateApplicationException;
+
+public class UniqueApplicationListTest {
+
+    private final UniqueApplicationList uniqueApplicationList = new UniqueApplicationList();
+    private final List<ListChangeListener.Change<? extends Application>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        uniqueApplicationList.setApplications(List.of(ALICE_GOOGLE_APPLICATION, BENSON_MICROSOFT_APPLICATION,
+                ALICE_MICROSOFT_APPLICATION, CARL_APPLE_APPLICATION));
+        uniqueApplicationList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Application>) change -> changes.add(change));
+    }
+
+    @Test
+    public void removeIf_matchingApplications_removedInOneChange() {
+        SortedMap<Integer, Application> removed =
+                uniqueApplicationList.removeIf(application -> application.getApplicant().equals(ALICE));
+
+        assertEquals(Map.of(0, ALICE_GOOGLE_APPLICATION, 2, ALICE_MICROSOFT_APPLICATION), removed);
+        assertEquals(List.of(BENSON_MICROSOFT_APPLICATION, CARL_APPLE_APPLICATION),
+                uniqueApplicationList.asUnmodifiableObservableList());
+        assertFalse(uniqueApplicationList.contains(ALICE_GOOGLE_APPLICATION));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void removeIf_noMatchingApplications_nothingRemoved() {
+        assertTrue(uniqueApplicationList.removeIf(application -> false).isEmpty());
+        assertEquals(4, uniqueApplicationList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void insertAll_removedApplications_restoresList() {
+        List<Application> original = List.copyOf(uniqueApplicationList.asUnmodifiableObservableList());
+        SortedMap<Integer, Application> removed = uniqueApplicationList.removeIf(application ->
+                application.equals(ALICE_GOOGLE_APPLICATION) || application.equals(CARL_APPLE_APPLICATION));
+        changes.clear();
+
+        uniqueApplicationList.insertAll(removed);
+        assertEquals(original, uniqueApplicationList.asUnmodifiableObservableList());
+        assertTrue(uniqueApplicationList.contains(CARL_APPLE_APPLICATION));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void insertAll_existingApplication_throwsDuplicateApplicationException() {
+        SortedMap<Integer, Application> toInsert = new TreeMap<>(Map.of(0, CARL_APPLE_APPLICATION));
+        assertThrows(DuplicateApplicationException.class, () -> uniqueApplicationList.insertAll(toInsert));
+    }
+
+    @Test
+    public void insertAll_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        SortedMap<Integer, Application> toInsert = new TreeMap<>(Map.of(5, BENSON_GOOGLE_APPLICATION));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniqueApplicationList.insertAll(toInsert));
+    }
+
+    @Test
+    public void replaceAll_existingApplications_replacedInPlaceInOneChange() {
+        Application advancedGoogle = ALICE_GOOGLE_APPLICATION.advance(1);
+        Application advancedApple = CARL_APPLE_APPLICATION.advance(1);
+        uniqueApplicationList.replaceAll(Map.of(ALICE_GOOGLE_APPLICATION, advancedGoogle,
+                CARL_APPLE_APPLICATION, advancedApple));
+
+        assertEquals(List.of(advancedGoogle, BENSON_MICROSOFT_APPLICATION, ALICE_MICROSOFT_APPLICATION, advancedApple),
+                uniqueApplicationList.asUnmodifiableObservableList());
+        assertFalse(uniqueApplicationList.contains(ALICE_GOOGLE_APPLICATION));
+        assertTrue(uniqueApplicationList.contains(advancedApple));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void replaceAll_applicationNotInList_throwsApplicationNotFoundException() {
+        assertThrows(ApplicationNotFoundException.class, () ->
+                uniqueApplicationList.replaceAll(Map.of(BENSON_GOOGLE_APPLICATION, ALICE_GOOGLE_APPLICATION)));
+    }
+
+    @Test
+    public void replaceAll_replacementAlreadyInList_throwsDuplicateApplicationException() {
+        assertThrows(DuplicateApplicationException.class, () ->
+                uniqueApplicationList.replaceAll(Map.of(ALICE_GOOGLE_APPLICATION, CARL_APPLE_APPLICATION)));
+        assertTrue(uniqueApplicationList.contains(ALICE_GOOGLE_APPLICATION));
+    }
+
+    @Test
+    public void replaceAll_swappedApplications_success() {
+        uniqueApplicationList.replaceAll(Map.of(ALICE_GOOGLE_APPLICATION, CARL_APPLE_APPLICATION,
+                CARL_APPLE_APPLICATION, ALICE_GOOGLE_APPLICATION));
+
+        assertEquals(List.of(CARL_APPLE_APPLICATION, BENSON_MICROSOFT_APPLICATION, ALICE_MICROSOFT_APPLICATION,
+                ALICE_GOOGLE_APPLICATION), uniqueApplicationList.asUnmodifiableObservableList());
+    }
+}
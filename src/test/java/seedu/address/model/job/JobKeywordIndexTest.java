@@ -0,0 +1,68 @@
+package seedu.address.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.DATA_SCIENTIST_MICROSOFT;
+import static seedu.address.testutil.TypicalPersons.FULLSTACK_DEVELOPER_NETFLIX;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalJobs;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.job.JobKeywordIndex.Field;
+
+public class JobKeywordIndexTest {
+
+    private final JobKeywordIndex index = new JobKeywordIndex();
+
+    @Test
+    public void findMatchingAnyKeyword_fieldScoped_onlyMatchesThatField() {
+        getTypicalJobs().forEach(index::add);
+
+        // "Full" is in the title of one job and the type of two
+        assertEquals(Set.of(FULLSTACK_DEVELOPER_NETFLIX),
+                new HashSet<>(index.findMatchingAnyKeyword(List.of("full"), List.of(Field.TITLE))));
+        Set<Job> inType = index.findMatchingAnyKeyword(List.of("FULL"), List.of(Field.TYPE));
+        assertTrue(inType.contains(FULLSTACK_DEVELOPER_NETFLIX));
+        assertTrue(inType.contains(DATA_SCIENTIST_MICROSOFT));
+        assertFalse(inType.contains(SOFTWARE_ENGINEER_GOOGLE));
+
+        // words of multi-word skills
+        assertTrue(index.findMatchingAnyKeyword(List.of("boot"), List.of(Field.SKILLS))
+                .contains(SOFTWARE_ENGINEER_GOOGLE));
+    }
+
+    @Test
+    public void findMatchingAnyKeyword_afterRemove_doesNotChange() {
+        index.add(DATA_SCIENTIST_MICROSOFT);
+        Set<Job> matching = index.findMatchingAnyKeyword(List.of("Python"), List.of(Field.values()));
+        index.remove(DATA_SCIENTIST_MICROSOFT);
+
+        assertEquals(Set.of(DATA_SCIENTIST_MICROSOFT), new HashSet<>(matching));
+        assertTrue(index.findMatchingAnyKeyword(List.of("Python"), List.of(Field.values())).isEmpty());
+    }
+
+    @Test
+    public void findMatching_sameAsPredicate() {
+        getTypicalJobs().forEach(index::add);
+        List<JobContainsKeywordsPredicate> predicates = List.of(
+                new JobContainsKeywordsPredicate(List.of("Engineer", "python")),
+                new JobContainsKeywordsPredicate(List.of("time")),
+                new JobContainsKeywordsPredicate(List.of()),
+                new JobContainsKeywordsPredicate(List.of(), Map.of(Field.SKILLS, List.of("react", "java"))),
+                new JobContainsKeywordsPredicate(List.of("engineer"), Map.of(Field.TYPE, List.of("intern"))),
+                new JobContainsKeywordsPredicate(List.of(), Map.of(Field.TITLE, List.of("Full"),
+                        Field.TYPE, List.of("Full"))));
+        for (JobContainsKeywordsPredicate predicate : predicates) {
+            Set<Job> expected = getTypicalJobs().stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(index.findMatching(predicate)), predicate.toString());
+        }
+    }
+}
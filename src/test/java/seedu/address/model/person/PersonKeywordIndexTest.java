@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonKeywordIndexTest {
+
+    private final PersonKeywordIndex index = new PersonKeywordIndex();
+
+    @Test
+    public void findMatchingAnyKeyword_wholeWordsIgnoringCase_matches() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        assertEquals(Set.of(ALICE), new HashSet<>(index.findMatchingAnyKeyword(List.of("aLIce"))));
+        assertTrue(index.findMatchingAnyKeyword(List.of("Bob", "Meier")).contains(BENSON));
+
+        // not a whole word
+        assertTrue(index.findMatchingAnyKeyword(List.of("Ali")).isEmpty());
+
+        // no keywords
+        assertTrue(index.findMatchingAnyKeyword(List.of()).isEmpty());
+    }
+
+    @Test
+    public void findMatchingAnyKeyword_personNotIndexed_doesNotMatch() {
+        index.add(new PersonBuilder(ALICE).build());
+        assertFalse(index.findMatchingAnyKeyword(List.of("Alice")).contains(ALICE));
+    }
+
+    @Test
+    public void findMatchingAnyKeyword_afterRemove_doesNotChange() {
+        index.add(ALICE);
+        Set<Person> matching = index.findMatchingAnyKeyword(List.of("Alice"));
+        index.remove(ALICE);
+
+        assertEquals(Set.of(ALICE), new HashSet<>(matching));
+        assertTrue(index.findMatchingAnyKeyword(List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void findMatchingAnyKeyword_sameAsPredicate() {
+        getTypicalPersons().forEach(index::add);
+        for (String keywords : Arrays.asList("Alice Carl", "friends", "[friends]", "NUS", "Phone:", "meier@example.com",
+                "kurz elle kunz", "nobody")) {
+            List<String> keywordList = Arrays.asList(keywords.split("\\s+"));
+            Set<Person> expected = getTypicalPersons().stream()
+                    .filter(new NameContainsKeywordsPredicate(keywordList)).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(index.findMatchingAnyKeyword(keywordList)), keywords);
+        }
+    }
+}
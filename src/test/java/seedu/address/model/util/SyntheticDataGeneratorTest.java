@@ -0,0 +1,101 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.application.Application;
+import seedu.address.model.person.Person;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generateAddressBook_defaultSettings_generatesPersonsAndJobs() {
+        AddressBook addressBook = new SyntheticDataGenerator(1).generateAddressBook();
+        assertEquals(SyntheticDataGenerator.DEFAULT_PERSON_COUNT, addressBook.getPersonList().size());
+        assertEquals(SyntheticDataGenerator.DEFAULT_PERSON_COUNT / 10, addressBook.getJobList().size());
+    }
+
+    @Test
+    public void generateAddressBook_sameSeed_sameData() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42).withPersonCount(500);
+        AddressBook addressBook = generator.generateAddressBook();
+        AddressBook otherAddressBook = new SyntheticDataGenerator(42).withPersonCount(500).generateAddressBook();
+        assertEquals(addressBook, otherAddressBook);
+        assertEquals(getIds(addressBook), getIds(otherAddressBook));
+        assertEquals(generator.generateApplicationsManager(addressBook).getApplicationList(),
+                generator.generateApplicationsManager(otherAddressBook).getApplicationList());
+    }
+
+    @Test
+    public void generateAddressBook_differentSeed_differentData() {
+        assertNotEquals(new SyntheticDataGenerator(1).withPersonCount(50).generateAddressBook(),
+                new SyntheticDataGenerator(2).withPersonCount(50).generateAddressBook());
+    }
+
+    @Test
+    public void generateAddressBook_morePersonsThanNames_namesNumbered() {
+        // Far more persons than combinations of first and last names
+        AddressBook addressBook = new SyntheticDataGenerator(3).withPersonCount(5000).withJobCount(200)
+                .generateAddressBook();
+        assertEquals(5000, addressBook.getPersonList().size());
+        assertEquals(200, addressBook.getJobList().size());
+        assertTrue(addressBook.getPersonList().stream().anyMatch(person -> person.getName().fullName.endsWith(" 2")));
+    }
+
+    @Test
+    public void generateApplicationsManager_validSettings_distinctApplicationsWithinRounds() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(4).withPersonCount(300).withJobCount(5)
+                .withApplicationsPerPerson(4).withMaxRounds(2);
+        AddressBook addressBook = generator.generateAddressBook();
+        ApplicationsManager applicationsManager = generator.generateApplicationsManager(addressBook);
+
+        List<Application> applications = applicationsManager.getApplicationList();
+        assertEquals(300 * 4, applications.size());
+        for (Application application : applications) {
+            assertTrue(addressBook.getPersonList().contains(application.getApplicant()));
+            assertTrue(addressBook.getJobList().contains(application.getJob()));
+            assertTrue(application.getJob().getJobRounds().jobRounds <= 2);
+        }
+    }
+
+    @Test
+    public void generateApplicationsManager_moreApplicationsThanJobs_appliesToEveryJob() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(5).withPersonCount(10).withJobCount(3)
+                .withApplicationsPerPerson(10);
+        AddressBook addressBook = generator.generateAddressBook();
+        assertEquals(10 * 3, generator.generateApplicationsManager(addressBook).getApplicationList().size());
+    }
+
+    @Test
+    public void generateApplicationsManager_noJobs_noApplications() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(6).withPersonCount(10).withJobCount(0);
+        AddressBook addressBook = generator.generateAddressBook();
+        assertTrue(generator.generateApplicationsManager(addressBook).getApplicationList().isEmpty());
+    }
+
+    @Test
+    public void withSettings_invalidValues_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(0);
+        assertThrows(IllegalArgumentException.class, () -> generator.withPersonCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withJobCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withApplicationsPerPerson(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withMaxRounds(0));
+    }
+
+    private static Set<Object> getIds(AddressBook addressBook) {
+        Set<Object> ids = new HashSet<>();
+        addressBook.getPersonList().stream().map(Person::getId).forEach(ids::add);
+        addressBook.getJobList().forEach(job -> ids.add(job.getId()));
+        return ids;
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DATA_SCIENTIST_MICROSOFT;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobRounds;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvImporterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void importPersons_validAndInvalidRows_invalidRowsReported() throws Exception {
+        String csv = "Phone,Name,Email,Address,School,Degree,Tags\n"
+                + "85355255,Amy Bee,amy@gmail.com,\"123, Jurong West Ave 6\",NUS,Computer Science,friends;owesMoney\n"
+                + "\n"
+                + "abc,Bob Choo,bob@gmail.com,Block 123,NTU,Law,\n"
+                + "94351253,Alice Pauline,alice@example.com,Block 1,NUS,Law,\n"
+                + "85355255,Amy Bee,amy@gmail.com,Block 2,NUS,Law,\n"
+                + "85355255,Cathy Lim\n";
+
+        CsvImporter.Result<Person> result = CsvImporter.importPersons(new StringReader(csv), addressBook);
+
+        Person amy = new PersonBuilder().withAddress("123, Jurong West Ave 6").withTags("friends", "owesMoney")
+                .build();
+        assertEquals(List.of(amy), result.imported());
+        assertEquals(List.of(
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 4, Phone.MESSAGE_CONSTRAINTS),
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 5, CsvImporter.MESSAGE_DUPLICATE_PERSON),
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 6, CsvImporter.MESSAGE_DUPLICATE_PERSON),
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 7,
+                        String.format(CsvImporter.MESSAGE_WRONG_FIELD_COUNT, 7, 2))),
+                result.errors());
+        assertEquals(5, result.getRowCount());
+    }
+
+    @Test
+    public void importPersons_missingColumn_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(CsvImporter.MESSAGE_MISSING_COLUMN, "degree"), () ->
+                CsvImporter.importPersons(new StringReader("name,phone,email,address,school\n"), addressBook));
+    }
+
+    @Test
+    public void importPersons_emptyFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvImporter.MESSAGE_NO_HEADER, () ->
+                CsvImporter.importPersons(new StringReader(""), addressBook));
+    }
+
+    @Test
+    public void importJobs_validAndInvalidRows_invalidRowsReported() throws Exception {
+        String csv = "title,rounds,skills,type\n"
+                + "Data Analyst,3,SQL;Excel,Full Time\n"
+                + "Data Analyst,three,SQL,Full Time\n"
+                + "Software Engineer,5,Java;Spring Boot;Microservices,Intern\n";
+
+        CsvImporter.Result<Job> result = CsvImporter.importJobs(new StringReader(csv), addressBook);
+
+        Job dataAnalyst = new JobBuilder().withJobTitle("Data Analyst").withJobRounds(3)
+                .withJobSkills(FXCollections.observableArrayList("SQL", "Excel")).withJobType("Full Time").build();
+        assertEquals(List.of(dataAnalyst), result.imported());
+        assertEquals(List.of(
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 3, JobRounds.MESSAGE_CONSTRAINTS),
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 4, CsvImporter.MESSAGE_DUPLICATE_JOB)),
+                result.errors());
+    }
+
+    @Test
+    public void importApplications_validAndInvalidRows_invalidRowsReported() throws Exception {
+        String csv = "name,job\n"
+                + "Carl Kurz,Software Engineer\n"
+                + "Alice Pauline,Software Engineer\n"
+                + "Nobody Here,Software Engineer\n"
+                + "Carl Kurz,Astronaut\n";
+
+        CsvImporter.Result<Application> result = CsvImporter.importApplications(new StringReader(csv),
+                addressBook, getTypicalApplicationsManager());
+
+        assertEquals(List.of(new Application(CARL, SOFTWARE_ENGINEER_GOOGLE, new ApplicationStatus(0))),
+                result.imported());
+        assertEquals(List.of(
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 3, CsvImporter.MESSAGE_DUPLICATE_APPLICATION),
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 4,
+                        String.format(CsvImporter.MESSAGE_UNKNOWN_PERSON, "Nobody Here")),
+                String.format(CsvImporter.MESSAGE_FAILED_LINE, 5,
+                        String.format(CsvImporter.MESSAGE_UNKNOWN_JOB, "Astronaut"))),
+                result.errors());
+    }
+
+    @Test
+    public void importApplications_statusColumn_statusChecked() throws Exception {
+        String csv = "name,job,status\n"
+                + "Carl Kurz,Data Scientist,2\n"
+                + "Carl Kurz,Software Engineer,6\n";
+
+        CsvImporter.Result<Application> result = CsvImporter.importApplications(new StringReader(csv),
+                addressBook, getTypicalApplicationsManager());
+
+        assertEquals(List.of(new Application(CARL, DATA_SCIENTIST_MICROSOFT, new ApplicationStatus(2))),
+                result.imported());
+        assertEquals(List.of(String.format(CsvImporter.MESSAGE_FAILED_LINE, 3, Application.EXCEED_ROUNDS_MESSAGE)),
+                result.errors());
+    }
+
+    @Test
+    public void importApplications_jobTitleShared_ambiguousJobReported() throws Exception {
+        addressBook.addJob(new JobBuilder(SOFTWARE_ENGINEER_GOOGLE).withJobRounds(2).build());
+        String csv = "name,job\n" + ALICE.getName() + ",Software Engineer\n";
+
+        CsvImporter.Result<Application> result = CsvImporter.importApplications(new StringReader(csv),
+                addressBook, getTypicalApplicationsManager());
+
+        assertEquals(List.of(String.format(CsvImporter.MESSAGE_FAILED_LINE, 2,
+                String.format(CsvImporter.MESSAGE_AMBIGUOUS_JOB, "Software Engineer"))), result.errors());
+    }
+}
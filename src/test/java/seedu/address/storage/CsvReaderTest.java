@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_unquotedFields_splitAtCommas() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\nd\n"));
+        assertEquals(List.of("a", "b", "", "c"), reader.readRecord());
+        assertEquals(List.of("d"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepCommasQuotesAndLineBreaks() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\"\nlast"));
+        assertEquals(List.of("a,b", "say \"hi\"", "line\nbreak"), reader.readRecord());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(List.of("last"), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_windowsLineEndings_removed() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b\r\n\r\nc\r\n"));
+        assertEquals(List.of("a", "b"), reader.readRecord());
+        assertEquals(List.of(""), reader.readRecord());
+        assertEquals(List.of("c"), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIllegalValueException() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\n\"b,c\nd"));
+        reader.readRecord();
+        assertThrows(IllegalValueException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2),
+                reader::readRecord);
+        assertNull(reader.readRecord());
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_plainFields_notQuoted() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord("a", "", "b c");
+        assertEquals("a,,b c\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_quotedAndReadBack() throws Exception {
+        List<String> fields = List.of("a,b", "say \"hi\"", "line\nbreak", "plain");
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRecord(fields.toArray(String[]::new));
+        writer.writeRecord("last");
+
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\",plain\nlast\n", out.toString());
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        assertEquals(fields, reader.readRecord());
+        assertEquals(List.of("last"), reader.readRecord());
+    }
+}
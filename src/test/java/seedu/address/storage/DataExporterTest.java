@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.model.AddressBook;
+
+public class DataExporterTest {
+
+    @Test
+    public void fromFileName() {
+        assertEquals(Optional.of(DataExporter.Format.CSV), DataExporter.Format.fromFileName("persons.CSV"));
+        assertEquals(Optional.of(DataExporter.Format.NDJSON), DataExporter.Format.fromFileName("persons.ndjson"));
+        assertEquals(Optional.of(DataExporter.Format.NDJSON), DataExporter.Format.fromFileName("persons.jsonl"));
+        assertEquals(Optional.empty(), DataExporter.Format.fromFileName("persons.json"));
+    }
+
+    @Test
+    public void exportPersons_csv_importedBackUnchanged() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        StringWriter out = new StringWriter();
+
+        int count = DataExporter.exportPersons(addressBook.getPersonList(), DataExporter.Format.CSV, out);
+
+        CsvImporter.Result<?> result = CsvImporter.importPersons(new StringReader(out.toString()), new AddressBook());
+        assertEquals(addressBook.getPersonList().size(), count);
+        assertEquals(addressBook.getPersonList(), result.imported());
+        assertTrue(result.errors().isEmpty());
+    }
+
+    @Test
+    public void exportJobs_csv_importedBackUnchanged() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        StringWriter out = new StringWriter();
+
+        DataExporter.exportJobs(addressBook.getJobList(), DataExporter.Format.CSV, out);
+
+        CsvImporter.Result<?> result = CsvImporter.importJobs(new StringReader(out.toString()), new AddressBook());
+        assertEquals(addressBook.getJobList(), result.imported());
+    }
+
+    @Test
+    public void exportApplications_ndjson_oneObjectPerLine() throws Exception {
+        StringWriter out = new StringWriter();
+
+        int count = DataExporter.exportApplications(List.of(ALICE_GOOGLE_APPLICATION, ALICE_GOOGLE_APPLICATION),
+                DataExporter.Format.NDJSON, out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        JsonNode application = new ObjectMapper().readTree(lines[0]);
+        assertEquals(ALICE.getName().fullName, application.get("name").asText());
+        assertEquals(ALICE.getPhone().value, application.get("phone").asText());
+        assertEquals("Software Engineer", application.get("job").asText());
+        assertEquals(2, application.get("status").asInt());
+        assertEquals(5, application.get("rounds").asInt());
+    }
+
+    @Test
+    public void exportPersons_ndjson_tagsWrittenAsArray() throws Exception {
+        StringWriter out = new StringWriter();
+
+        DataExporter.exportPersons(List.of(ALICE), DataExporter.Format.NDJSON, out);
+
+        JsonNode person = new ObjectMapper().readTree(out.toString());
+        assertTrue(person.get("tags").isArray());
+        assertEquals(ALICE.getTags().size(), person.get("tags").size());
+        assertEquals(ALICE.getEmail().value, person.get("email").asText());
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.PRODUCT_MANAGER_APPLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+
+public class JournaledApplicationsManagerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveApplicationsManager_changesAfterFirstSave_replayedOnRead() throws Exception {
+        Path filePath = testFolder.resolve("TempApplications.json");
+        JournaledApplicationsManagerStorage storage = new JournaledApplicationsManagerStorage(filePath);
+        ApplicationsManager original = getTypicalApplicationsManager();
+        storage.saveApplicationsManager(original);
+
+        original.advanceApplication(ALICE_GOOGLE_APPLICATION, 1);
+        original.addApplication(new Application(GEORGE, PRODUCT_MANAGER_APPLE, new ApplicationStatus(0)));
+        original.removePersonApplications(ALICE);
+        storage.saveApplicationsManager(original);
+
+        Path journalPath = filePath.resolveSibling(filePath.getFileName() + Journal.JOURNAL_FILE_SUFFIX);
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(original, new ApplicationsManager(new JournaledApplicationsManagerStorage(filePath)
+                .readApplicationsManager(getTypicalAddressBook()).get()));
+    }
+}
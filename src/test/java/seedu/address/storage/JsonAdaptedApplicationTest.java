@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_GOOGLE_APPLICATION;
+import static seedu.address.testutil.TypicalPersons.SOFTWARE_ENGINEER_GOOGLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.application.Application;
+import seedu.address.model.application.ApplicationStatus;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+public class JsonAdaptedApplicationTest {
+
+    private static final String VALID_PERSON_ID = ALICE.getId().toString();
+    private static final String VALID_JOB_ID = SOFTWARE_ENGINEER_GOOGLE.getId().toString();
+    private static final int VALID_STATUS = ALICE_GOOGLE_APPLICATION.getApplicationStatus().applicationStatus;
+
+    @Test
+    public void toModelType_validApplication_resolvesToAddressBookEntries() throws Exception {
+        AddressBookLookup lookup = new AddressBookLookup(getTypicalAddressBook());
+        Application application = new JsonAdaptedApplication(ALICE_GOOGLE_APPLICATION).toModelType(lookup);
+        assertEquals(ALICE_GOOGLE_APPLICATION, application);
+        assertSame(lookup.getPerson(ALICE.getId()), application.getApplicant());
+        assertSame(lookup.getJob(SOFTWARE_ENGINEER_GOOGLE.getId()), application.getJob());
+    }
+
+    @Test
+    public void toModelType_unknownPerson_throwsIllegalValueException() throws Exception {
+        JsonAdaptedApplication application = new JsonAdaptedApplication(UUID.randomUUID().toString(), VALID_JOB_ID,
+                VALID_STATUS, null, null);
+        AddressBookLookup lookup = new AddressBookLookup(getTypicalAddressBook());
+        assertThrows(IllegalValueException.class, JsonAdaptedApplication.MESSAGE_UNKNOWN_PERSON, () ->
+                application.toModelType(lookup));
+    }
+
+    @Test
+    public void toModelType_invalidJobId_throwsIllegalValueException() throws Exception {
+        JsonAdaptedApplication application = new JsonAdaptedApplication(VALID_PERSON_ID, "not-a-uuid",
+                VALID_STATUS, null, null);
+        AddressBookLookup lookup = new AddressBookLookup(getTypicalAddressBook());
+        String expectedMessage = String.format(JsonAdaptedApplication.INVALID_ID_MESSAGE_FORMAT, "jobId");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> application.toModelType(lookup));
+    }
+
+    @Test
+    public void toModelType_embeddedApplicantAndJob_resolvesThroughDerivedIds() throws Exception {
+        // Persons, jobs and applications as read from files written before they had ids
+        JsonAdaptedPerson legacyApplicant = new JsonAdaptedPerson(null, ALICE.getName().fullName,
+                ALICE.getPhone().value, ALICE.getEmail().value, ALICE.getAddress().value, ALICE.getSchool().value,
+                ALICE.getDegree().value,
+                ALICE.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
+        JsonAdaptedJob legacyJob = new JsonAdaptedJob(null, SOFTWARE_ENGINEER_GOOGLE.getJobTitle().jobTitle(),
+                SOFTWARE_ENGINEER_GOOGLE.getJobRounds().jobRounds, SOFTWARE_ENGINEER_GOOGLE.getJobSkills().value,
+                SOFTWARE_ENGINEER_GOOGLE.getJobType().getDisplayType());
+        Person applicant = legacyApplicant.toModelType();
+        Job job = legacyJob.toModelType();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(applicant);
+        addressBook.addJob(job);
+
+        JsonAdaptedApplication application = new JsonAdaptedApplication(null, null, VALID_STATUS, legacyApplicant,
+                legacyJob);
+        assertEquals(new Application(applicant, job, new ApplicationStatus(VALID_STATUS)),
+                application.toModelType(new AddressBookLookup(addressBook)));
+    }
+}
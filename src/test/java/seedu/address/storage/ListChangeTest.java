@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ListChangeTest {
+
+    private static final String A = "a";
+    private static final String B = "b";
+    private static final String C = "c";
+    private static final String D = "d";
+    private static final String E = "e";
+
+    @Test
+    public void between_sameElements_noChanges() {
+        List<String> list = Arrays.asList(A, B, C);
+        assertTrue(ListChange.between(list, new ArrayList<>(list)).get().isEmpty());
+    }
+
+    @Test
+    public void between_appendedElement_singleAdd() {
+        List<ListChange<String>> changes = ListChange.between(Arrays.asList(A, B), Arrays.asList(A, B, C)).get();
+        assertEquals(1, changes.size());
+        assertEquals(ListChange.Type.ADD, changes.get(0).getType());
+        assertEquals(C, changes.get(0).getElement());
+    }
+
+    @Test
+    public void between_replacedElement_singleSet() {
+        List<ListChange<String>> changes = ListChange.between(Arrays.asList(A, B, C), Arrays.asList(A, D, C)).get();
+        assertEquals(1, changes.size());
+        assertEquals(ListChange.Type.SET, changes.get(0).getType());
+        assertEquals(1, changes.get(0).getIndex());
+    }
+
+    @Test
+    public void between_deletedElements_deletes() {
+        List<ListChange<String>> changes = ListChange.between(Arrays.asList(A, B, C, D, E), Arrays.asList(A, C, E))
+                .get();
+        assertEquals(2, changes.size());
+        assertTrue(changes.stream().allMatch(change -> change.getType() == ListChange.Type.DELETE));
+    }
+
+    @Test
+    public void between_reorderedElements_empty() {
+        assertFalse(ListChange.between(Arrays.asList(A, B, C), Arrays.asList(A, C, B)).isPresent());
+    }
+
+    @Test
+    public void between_insertedElement_empty() {
+        assertFalse(ListChange.between(Arrays.asList(A, B), Arrays.asList(A, C, B)).isPresent());
+    }
+
+    @Test
+    public void applyTo_changesBetweenLists_reproducesNewList() throws Exception {
+        List<String> oldList = Arrays.asList(A, B, C, D);
+        List<String> newList = Arrays.asList(A, E, D, "f", "g");
+        assertReproduces(oldList, newList);
+        assertReproduces(newList, oldList.subList(0, 1));
+        assertReproduces(List.of(), oldList);
+        assertReproduces(oldList, List.of());
+    }
+
+    @Test
+    public void applyTo_indexOutOfRange_throwsIllegalValueException() {
+        List<String> list = new ArrayList<>(List.of(A));
+        assertThrows(IllegalValueException.class, () -> ListChange.<String>delete(1).applyTo(list));
+        assertThrows(IllegalValueException.class, () -> ListChange.set(-1, B).applyTo(list));
+    }
+
+    private void assertReproduces(List<String> oldList, List<String> newList) throws Exception {
+        Optional<List<ListChange<String>>> changes = ListChange.between(oldList, newList);
+        List<String> replayed = new ArrayList<>(oldList);
+        for (ListChange<String> change : changes.get()) {
+            change.applyTo(replayed);
+        }
+        assertEquals(newList, replayed);
+    }
+}
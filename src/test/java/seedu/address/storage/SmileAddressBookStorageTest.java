@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class SmileAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new SmileAddressBookStorage(testFolder.resolve("NonExistentFile.sml")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.sml");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new SmileAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.sml");
+        AddressBook original = getTypicalAddressBook();
+        SmileAddressBookStorage storage = new SmileAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Overwrite the file; the previous one is kept as a backup
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                storage.readAddressBook(FileUtil.getBackupPath(filePath)).get()));
+    }
+
+    @Test
+    public void readAndSaveApplicationsManager_allInOrder_success() throws Exception {
+        ReadOnlyAddressBook addressBook = getTypicalAddressBook();
+        ApplicationsManager original = getTypicalApplicationsManager();
+        SmileApplicationsManagerStorage storage =
+                new SmileApplicationsManagerStorage(testFolder.resolve("applicationsManager.sml"));
+
+        storage.saveApplicationsManager(original);
+        assertEquals(original, new ApplicationsManager(storage.readApplicationsManager(addressBook).get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path smileFilePath = testFolder.resolve("addressBook.sml");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new SmileAddressBookStorage(smileFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(smileFilePath) < Files.size(jsonFilePath));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+
+public class StreamingJsonLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get(
+            "src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve(
+            "typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve(
+            "invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve(
+            "duplicatePersonAddressBook.json");
+
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = StreamingJsonLoader.readFile(TYPICAL_PERSONS_FILE,
+                StreamingJsonLoader::readAddressBook);
+        assertEquals(getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> StreamingJsonLoader.readFile(INVALID_PERSON_FILE,
+                StreamingJsonLoader::readAddressBook));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                StreamingJsonLoader.readFile(DUPLICATE_PERSON_FILE, StreamingJsonLoader::readAddressBook));
+    }
+
+    @Test
+    public void readAddressBook_notJsonObject_throwsIoException() {
+        assertThrows(IOException.class, () -> StreamingJsonLoader.readAddressBook(toStream("[]")));
+        assertThrows(IOException.class, () -> StreamingJsonLoader.readAddressBook(toStream("{\"persons\": [")));
+    }
+
+    @Test
+    public void readApplicationsManager_serializedApplicationsManager_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ApplicationsManager applicationsManager = getTypicalApplicationsManager();
+        String json = JsonUtil.toJsonString(new JsonSerializableApplicationsManager(applicationsManager));
+        // unknown fields, e.g. from newer versions, are skipped
+        json = "{\"unknown\": {\"nested\": [1, 2]}," + json.substring(json.indexOf('{') + 1);
+
+        assertEquals(applicationsManager, StreamingJsonLoader.readApplicationsManager(toStream(json),
+                addressBook));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
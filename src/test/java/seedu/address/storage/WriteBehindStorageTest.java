@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalApplicationsManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ApplicationsManager;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void flush_afterSaves_dataWritten() throws Exception {
+        StorageManager storageManager = new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonApplicationsManagerStorage(testFolder.resolve("am")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager);
+        AddressBook addressBook = getTypicalAddressBook();
+        ApplicationsManager applicationsManager = getTypicalApplicationsManager();
+
+        storage.saveAddressBook(addressBook);
+        storage.saveApplicationsManager(applicationsManager);
+        storage.flush();
+
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+        assertEquals(applicationsManager, new ApplicationsManager(
+                storageManager.readApplicationsManager(retrieved).get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_snapshotWritten() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        int personCount = addressBook.getPersonList().size();
+
+        recordingStorage.blockWrites();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        recordingStorage.unblockWrites();
+        storage.flush();
+
+        assertEquals(personCount, recordingStorage.written.get(0).getPersonList().size());
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalesced() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage);
+        AddressBook first = new AddressBook();
+        AddressBook last = getTypicalAddressBook();
+
+        recordingStorage.blockWrites();
+        storage.saveAddressBook(first);
+        assertTrue(recordingStorage.writeStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            storage.saveAddressBook(new AddressBook());
+        }
+        storage.saveAddressBook(last);
+        recordingStorage.unblockWrites();
+        storage.flush();
+
+        // The first write was already running, and the other saves were coalesced into one write of the last one
+        assertEquals(2, recordingStorage.written.size());
+        assertEquals(last, new AddressBook(recordingStorage.written.get(1)));
+    }
+
+    @Test
+    public void flush_writeFailed_failureReportedAndRetried() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage);
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+        storage.setWriteFailureHandler(reportedFailures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        recordingStorage.failure = new IOException("disk full");
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, "disk full", storage::flush);
+        // The flush retries the write if the first attempt has already failed, so it may be reported twice
+        assertFalse(reportedFailures.isEmpty());
+        reportedFailures.forEach(failure -> assertSame(recordingStorage.failure, failure));
+
+        recordingStorage.failure = null;
+        storage.flush();
+        assertEquals(addressBook, new AddressBook(recordingStorage.written.get(0)));
+    }
+
+    /**
+     * A storage that records the address books it is asked to save instead of writing them.
+     */
+    private static class RecordingStorage extends StorageManager {
+        private final List<ReadOnlyAddressBook> written = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private volatile CountDownLatch writesAllowed = new CountDownLatch(0);
+        private volatile IOException failure;
+
+        RecordingStorage() {
+            super(null, null, null);
+        }
+
+        void blockWrites() {
+            writesAllowed = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writesAllowed.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            writeStarted.countDown();
+            try {
+                writesAllowed.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            written.add(addressBook);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.testutil;
 
+import java.util.UUID;
+
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.job.Job;
@@ -19,6 +21,7 @@ public class JobBuilder {
             "JavaScript", "React");
     public static final String DEFAULT_JOB_TYPE = "Intern";
 
+    private UUID id;
     private JobTitle jobTitle;
     private JobRounds jobRounds;
     private JobSkills jobSkills;
@@ -35,9 +38,10 @@ public class JobBuilder {
     }
 
     /**
-     * Initializes the JobBuilder with the data of {@code jobToCopy}.
+     * Initializes the JobBuilder with the data of {@code jobToCopy}, including its id.
      */
     public JobBuilder(Job jobToCopy) {
+        id = jobToCopy.getId();
         jobTitle = jobToCopy.getJobTitle();
         jobRounds = jobToCopy.getJobRounds();
         jobSkills = jobToCopy.getJobSkills();
@@ -77,6 +81,6 @@ public class JobBuilder {
     }
 
     public Job build() {
-        return new Job(jobTitle, jobRounds, jobSkills, jobType);
+        return new Job(id == null ? UUID.randomUUID() : id, jobTitle, jobRounds, jobSkills, jobType);
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Degree;
@@ -25,6 +26,7 @@ public class PersonBuilder {
     public static final String DEFAULT_SCHOOL = "NUS";
     public static final String DEFAULT_DEGREE = "Computer Science";
 
+    private UUID id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -47,9 +49,10 @@ public class PersonBuilder {
     }
 
     /**
-     * Initializes the PersonBuilder with the data of {@code personToCopy}.
+     * Initializes the PersonBuilder with the data of {@code personToCopy}, including its id.
      */
     public PersonBuilder(Person personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
@@ -120,6 +123,6 @@ public class PersonBuilder {
     }
 
     public Person build() {
-        return new Person(name, phone, email, address, school, degree, tags);
+        return new Person(id == null ? UUID.randomUUID() : id, name, phone, email, address, school, degree, tags);
     }
 }